@@ -0,0 +1,99 @@
+package org.example.ssj3pj.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 조회 팬아웃용 스레드 풀
+ * - ES 비동기 클라이언트를 쓸 수 없는 블로킹 조회(JPA, 외부 AI 호출 등)를 동시에 실행할 때 사용
+ * - 큐가 가득 차면 호출 스레드에서 실행 (요청이 버려지지 않도록)
+ * - overviewExecutor: 대시보드 통합 조회 전용 - 큐가 가득 차면 거절 (호출 스레드에서 돌면 항목별 기한이 지켜지지 않음)
+ * - citySummaryRefreshExecutor: 도시 요약 캐시 일괄 갱신 (단일 스레드)
+ * - rangeFetchExecutor: 기간 조회의 날짜별 ES 조회 전용 (가상 스레드를 쓸 수 있는 런타임이면 가상 스레드)
+ */
+@Configuration
+@Slf4j
+public class AsyncQueryConfig {
+
+    @Bean(name = "queryExecutor")
+    public ThreadPoolTaskExecutor queryExecutor(
+            @Value("${app.async.query.core-size:8}") int coreSize,
+            @Value("${app.async.query.max-size:32}") int maxSize,
+            @Value("${app.async.query.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        log.info("🔧 조회 스레드 풀 생성 - core: {}, max: {}, queue: {}", coreSize, maxSize, queueCapacity);
+        return executor;
+    }
+
+    @Bean(name = "overviewExecutor")
+    public ThreadPoolTaskExecutor overviewExecutor(
+            @Value("${app.async.overview.pool-size:16}") int poolSize,
+            @Value("${app.async.overview.queue-capacity:64}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("overview-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        log.info("🔧 통합 조회 스레드 풀 생성 - size: {}, queue: {}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 도시 요약 캐시 일괄 갱신 전용 (Kafka 리스너/스케줄러 스레드를 막지 않도록)
+     * 한 번에 하나만 실행하고 대기도 하나만 둠 - 이미 대기 중인 갱신이 있으면 새 요청은 버림
+     */
+    @Bean(name = "citySummaryRefreshExecutor")
+    public ThreadPoolTaskExecutor citySummaryRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("city-summary-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "rangeFetchExecutor")
+    public Executor rangeFetchExecutor(
+            @Value("${app.async.range-fetch.virtual-threads:true}") boolean virtualThreads,
+            @Value("${app.async.range-fetch.pool-size:32}") int poolSize
+    ) {
+        if (virtualThreads) {
+            try {
+                // Java 21+ 런타임에서만 존재 (17 로 컴파일하므로 리플렉션으로 확인)
+                Executor executor = (Executor) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                log.info("🔧 기간 조회 executor - 가상 스레드");
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                log.info("가상 스레드를 쓸 수 없는 런타임 - 고정 크기 스레드 풀 사용");
+            }
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("range-fetch-");
+        executor.initialize();
+        log.info("🔧 기간 조회 executor - 스레드 풀 {}", poolSize);
+        return executor;
+    }
+}
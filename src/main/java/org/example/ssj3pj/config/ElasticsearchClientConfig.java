@@ -1,38 +1,107 @@
 package org.example.ssj3pj.config;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 import org.elasticsearch.client.RestClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.function.ToDoubleFunction;
 
 
+@Slf4j
 @Configuration
 public class ElasticsearchClientConfig {
 
     @Value("${ELASTICSEARCH_HOST}")
     private String esHost;
 
+    /**
+     * 풀 크기/IO 스레드/압축/keep-alive/타임아웃을 app.es.client 로 조정하는 RestClient
+     * 커넥션 매니저를 직접 만들어 풀 상태를 es.client.pool.* 게이지로 노출한다.
+     */
+    @Bean(destroyMethod = "close")
+    public RestClient restClient(EsClientProperties props, MeterRegistry meterRegistry) throws IOReactorException {
+        IOReactorConfig.Builder ioConfig = IOReactorConfig.custom()
+                .setSoKeepAlive(true)
+                .setConnectTimeout((int) props.getConnectTimeout().toMillis())
+                .setSoTimeout((int) props.getSocketTimeout().toMillis());
+        if (props.getIoThreads() > 0) {
+            ioConfig.setIoThreadCount(props.getIoThreads());
+        }
 
-    @Bean
-    public ElasticsearchClient elasticsearchClient() {
-        RestClient restClient = RestClient.builder(HttpHost.create(esHost)).build();
+        PoolingNHttpClientConnectionManager connectionManager =
+                new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioConfig.build()));
+        connectionManager.setDefaultMaxPerRoute(props.getMaxConnPerRoute());
+        connectionManager.setMaxTotal(props.getMaxConnTotal());
+        registerPoolGauges(meterRegistry, connectionManager);
+
+        long keepAliveMillis = props.getKeepAlive().toMillis();
+        log.info("🔧 ES RestClient 생성 - perRoute: {}, total: {}, ioThreads: {}, compression: {}, keepAlive: {}",
+                props.getMaxConnPerRoute(), props.getMaxConnTotal(), props.getIoThreads(),
+                props.isCompression(), props.getKeepAlive());
+
+        return RestClient.builder(HttpHost.create(esHost))
+                .setCompressionEnabled(props.isCompression())
+                .setRequestConfigCallback(request -> request
+                        .setConnectTimeout((int) props.getConnectTimeout().toMillis())
+                        .setSocketTimeout((int) props.getSocketTimeout().toMillis())
+                        .setConnectionRequestTimeout((int) props.getConnectionRequestTimeout().toMillis()))
+                .setHttpClientConfigCallback(client -> client
+                        .setConnectionManager(connectionManager)
+                        .setKeepAliveStrategy((response, context) -> keepAliveMillis))
+                .build();
+    }
+
+    private static void registerPoolGauges(MeterRegistry registry, PoolingNHttpClientConnectionManager connectionManager) {
+        gauge(registry, connectionManager, "es.client.pool.leased", "사용 중인 커넥션", PoolStats::getLeased);
+        gauge(registry, connectionManager, "es.client.pool.pending", "커넥션을 기다리는 요청", PoolStats::getPending);
+        gauge(registry, connectionManager, "es.client.pool.available", "유휴 커넥션", PoolStats::getAvailable);
+        gauge(registry, connectionManager, "es.client.pool.max", "최대 커넥션", PoolStats::getMax);
+    }
+
+    private static void gauge(MeterRegistry registry, PoolingNHttpClientConnectionManager connectionManager,
+                              String name, String description, ToDoubleFunction<PoolStats> stat) {
+        Gauge.builder(name, connectionManager, cm -> stat.applyAsDouble(cm.getTotalStats()))
+                .description(description)
+                .register(registry);
+    }
 
-        ElasticsearchTransport transport = new RestClientTransport(
+    @Bean
+    public ElasticsearchTransport elasticsearchTransport(RestClient restClient) {
+        // 애플리케이션 ObjectMapper를 공유해 _source를 JsonNode/DTO로 한 번에 역직렬화
+        return new RestClientTransport(
                 restClient,
-                new JacksonJsonpMapper()
+                new JacksonJsonpMapper(objectMapper())
         );
+    }
 
+    @Bean
+    public ElasticsearchClient elasticsearchClient(ElasticsearchTransport transport) {
         return new ElasticsearchClient(transport);
     }
 
+    // 같은 transport(커넥션 풀)를 공유하는 비동기 클라이언트 - 응답 대기 중 요청 스레드를 점유하지 않음
+    @Bean
+    public ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport transport) {
+        return new ElasticsearchAsyncClient(transport);
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -0,0 +1,22 @@
+package org.example.ssj3pj.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.es.client")
+public class EsClientProperties {
+    private int maxConnPerRoute = 30;                              // 노드(라우트)당 최대 커넥션
+    private int maxConnTotal = 100;                                // 전체 최대 커넥션
+    private int ioThreads = 0;                                     // IO reactor 스레드 수 (0이면 CPU 코어 수)
+    private boolean compression = true;                            // 요청 gzip + Accept-Encoding: gzip
+    private Duration keepAlive = Duration.ofSeconds(60);           // 유휴 커넥션 재사용 한도
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration socketTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);   // 풀에서 커넥션을 기다리는 최대 시간
+}
@@ -5,6 +5,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter @Setter
 @Configuration
 @ConfigurationProperties(prefix = "app.es.indices")
@@ -12,4 +16,22 @@ public class EsIndexProperties {
     private String citydata;
     private String reddit;
     private String youtube;
+    private String youtubeVideos;   // youtubedata 스냅샷의 영상 단위 보조 인덱스
+    private String comments;        // YouTube/Reddit 댓글 분리 인덱스
+
+    // 스냅샷 인덱스(youtubedata/redditdata/citydata)별 기간 분할 설정 - 키: 인덱스(alias) 이름
+    private Map<String, Partition> partitions = new HashMap<>();
+
+    public enum Period { NONE, DAILY, WEEKLY }
+
+    /**
+     * 기간 분할 설정
+     * - 실제 인덱스: {alias}-yyyy.MM.dd (WEEKLY 는 그 주 월요일 날짜)
+     * - alias: 모든 분할 인덱스를 읽고, 현재 기간 인덱스가 쓰기 대상
+     */
+    @Getter @Setter
+    public static class Partition {
+        private Period period = Period.NONE;
+        private Duration retention;   // 비어 있으면 삭제하지 않음 (ILM delete phase)
+    }
 }
@@ -64,7 +64,7 @@ public class SecurityConfig {
         cfg.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
         cfg.setAllowedHeaders(List.of("*"));
         // (선택) 브라우저에서 필요한 응답 헤더 노출
-        cfg.setExposedHeaders(List.of("Set-Cookie"));
+        cfg.setExposedHeaders(List.of("Set-Cookie", "ETag"));
 
         UrlBasedCorsConfigurationSource src = new UrlBasedCorsConfigurationSource();
         src.registerCorsConfiguration("/**", cfg);
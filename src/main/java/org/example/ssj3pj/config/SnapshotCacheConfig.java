@@ -0,0 +1,111 @@
+package org.example.ssj3pj.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * ES 조회 캐시 설정
+ * - youtubeSnapshotCache: esDocId → 파싱된 스냅샷(JsonNode)
+ *   엔트리 수가 아닌 파싱된 트리의 추정 힙 크기로 상한을 두고, Caffeine 기본 정책(W-TinyLFU)으로 축출
+ * - videoDocIdCache: videoId → 영상 문서 ID
+ * - hit/miss/eviction 지표는 /actuator/metrics 의 cache.* 로 노출
+ */
+@Configuration
+@Slf4j
+public class SnapshotCacheConfig {
+
+    @Bean
+    public Cache<String, JsonNode> youtubeSnapshotCache(
+            @Value("${app.es.snapshot-cache.max-bytes:268435456}") long maxBytes,
+            MeterRegistry meterRegistry
+    ) {
+        Cache<String, JsonNode> cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String esDocId, JsonNode snapshot) -> estimateBytes(snapshot))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "youtubeSnapshot");
+        log.info("🔧 YouTube 스냅샷 캐시 생성 - maxBytes: {}", maxBytes);
+        return cache;
+    }
+
+    /**
+     * videoId → 영상 문서 ID 캐시 (영상 상세 조회 시 검색 없이 GET 으로 바로 조회)
+     * 같은 영상의 새 문서가 색인될 수 있으므로 expire-after-write 로 최신 문서를 다시 찾게 한다.
+     */
+    @Bean
+    public Cache<String, String> videoDocIdCache(
+            @Value("${app.es.video-doc-id-cache.max-size:10000}") long maxSize,
+            @Value("${app.es.video-doc-id-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "videoDocId");
+        return cache;
+    }
+
+    /*
+     * 파싱된 트리의 힙 크기 추정 (64bit JVM, compressed oops 기준 근사치)
+     * - 직렬화 JSON 길이보다 수 배 크다: 노드 객체, LinkedHashMap 엔트리, String/byte[] 헤더가 따로 잡힘
+     * - 필드 이름은 Jackson 이 intern 하므로 문서끼리 공유 → 엔트리 비용만 계산
+     * - 문자열은 compact strings 기준 Latin-1 이면 글자당 1B, 그 외(한글 제목 등)는 UTF-16 으로 2B
+     */
+    private static final int OBJECT_NODE_BYTES = 16 + 56 + 16;     // ObjectNode + LinkedHashMap + 빈 table
+    private static final int OBJECT_ENTRY_BYTES = 40 + 8;          // LinkedHashMap.Entry + table 슬롯(부하율 0.75 여유)
+    private static final int ARRAY_NODE_BYTES = 16 + 24 + 16;      // ArrayNode + ArrayList + 빈 elementData
+    private static final int ARRAY_SLOT_BYTES = 6;                 // 참조 4B + 1.5배 증가 여유
+    private static final int STRING_BYTES = 16 + 24 + 16;          // TextNode + String + byte[] 헤더
+    private static final int NUMBER_NODE_BYTES = 24;               // IntNode/LongNode/DoubleNode (Boolean/Null 노드는 싱글턴)
+
+    /** 파싱된 스냅샷 트리의 힙 점유 바이트 추정 (재귀 없이 순회) */
+    static int estimateBytes(JsonNode root) {
+        long bytes = 0;
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            JsonNode node = stack.pop();
+            if (node.isObject()) {
+                bytes += OBJECT_NODE_BYTES;
+                for (Map.Entry<String, JsonNode> field : node.properties()) {
+                    bytes += OBJECT_ENTRY_BYTES;
+                    stack.push(field.getValue());
+                }
+            } else if (node.isArray()) {
+                bytes += ARRAY_NODE_BYTES + (long) node.size() * ARRAY_SLOT_BYTES;
+                node.forEach(stack::push);
+            } else if (node.isTextual()) {
+                bytes += STRING_BYTES + stringBytes(node.textValue());
+            } else if (node.isNumber()) {
+                bytes += NUMBER_NODE_BYTES;
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long stringBytes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return 2L * value.length();
+            }
+        }
+        return value.length();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.ssj3pj.config.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.DashboardDailyStatsService;
+import org.example.ssj3pj.services.MetadataSummaryService;
+import org.example.ssj3pj.services.youtube.YoutubeBreakdownService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 기존 es_youtube_metadata / es_reddit_metadata 로 dashboard_daily_stats 재구축
+ * 기동 시 한 번 실행 (기본 켜짐, app.dashboard.daily-stats.backfill=false 로 끔)
+ * - 요약 컬럼이 비어 있는 행은 ES 스냅샷으로 먼저 채움
+ * - youtube_daily_breakdown 도 날짜별 최신 스냅샷이 빠진 날만 ES 에서 뽑아 채움
+ * - upsert 는 같은 날 더 늦은 스냅샷만 반영하므로 재실행해도 결과가 같음
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.dashboard.daily-stats.backfill", havingValue = "true", matchIfMissing = true)
+public class DashboardDailyStatsBackfillConfig {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final MetadataSummaryService metadataSummaryService;
+    private final DashboardDailyStatsService dashboardDailyStatsService;
+    private final YoutubeBreakdownService youtubeBreakdownService;
+
+    @Bean
+    public CommandLineRunner backfillDashboardDailyStats() {
+        return args -> {
+            int youtube = 0;
+            int breakdown = 0;
+            Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+            while (true) {
+                Page<YoutubeMetadata> page = youtubeMetadataRepository.findAll(pageable);
+                for (YoutubeMetadata metadata : page) {
+                    try {
+                        if (!metadata.hasSummary() && metadataSummaryService.fillYoutube(metadata)) {
+                            youtubeMetadataRepository.save(metadata);
+                        }
+                        if (dashboardDailyStatsService.upsertYoutube(metadata)) youtube++;
+                        if (youtubeBreakdownService.backfill(metadata)) breakdown++;
+                    } catch (Exception e) {
+                        log.error("일별 롤업 백필 실패 (youtube) - esDocId: {}", metadata.getEsDocId(), e);
+                    }
+                }
+                if (!page.hasNext()) break;
+                pageable = page.nextPageable();
+            }
+
+            int reddit = 0;
+            pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+            while (true) {
+                Page<RedditMetadata> page = redditMetadataRepository.findAll(pageable);
+                for (RedditMetadata metadata : page) {
+                    try {
+                        if (!metadata.hasSummary() && metadataSummaryService.fillReddit(metadata)) {
+                            redditMetadataRepository.save(metadata);
+                        }
+                        if (dashboardDailyStatsService.upsertReddit(metadata)) reddit++;
+                    } catch (Exception e) {
+                        log.error("일별 롤업 백필 실패 (reddit) - esDocId: {}", metadata.getEsDocId(), e);
+                    }
+                }
+                if (!page.hasNext()) break;
+                pageable = page.nextPageable();
+            }
+            log.info("일별 롤업 백필 완료 - youtube {} 건, breakdown {} 건, reddit {} 건", youtube, breakdown, reddit);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.ssj3pj.config.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.services.ES.EsIndexTemplateService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시 스냅샷 인덱스 템플릿/ingest 파이프라인 등록 (app.es.templates.install=true)
+ * ES 가 준비되지 않았어도 애플리케이션 기동은 계속하고, 관리자 API 로 다시 등록할 수 있다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.es.templates.install", havingValue = "true")
+public class EsIndexTemplateConfig {
+
+    private final EsIndexTemplateService esIndexTemplateService;
+
+    @Bean
+    public CommandLineRunner installEsIndexTemplates() {
+        return args -> {
+            try {
+                esIndexTemplateService.installAll();
+            } catch (Exception e) {
+                log.error("인덱스 템플릿/파이프라인 등록 실패", e);
+            }
+        };
+    }
+}
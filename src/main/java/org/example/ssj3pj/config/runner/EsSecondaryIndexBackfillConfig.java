@@ -0,0 +1,83 @@
+package org.example.ssj3pj.config.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.CommentIndexService;
+import org.example.ssj3pj.services.ES.YoutubeVideoIndexService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.function.Function;
+
+/**
+ * 기존 스냅샷으로 보조 인덱스 재구축 (기동 시 한 번, 문서 ID가 고정이라 재실행해도 덮어쓰기만 됨)
+ * - app.es.backfill.youtube-videos=true  : youtubedata → 영상 인덱스 + 댓글 인덱스
+ * - app.es.backfill.reddit-comments=true : redditdata → 댓글 인덱스
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class EsSecondaryIndexBackfillConfig {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final YoutubeVideoIndexService youtubeVideoIndexService;
+    private final CommentIndexService commentIndexService;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.es.backfill.youtube-videos", havingValue = "true")
+    public CommandLineRunner backfillYoutubeVideoIndex() {
+        return args -> backfill("youtube", youtubeMetadataRepository, YoutubeMetadata::getEsDocId,
+                youtubeVideoIndexService::indexSnapshot);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.es.backfill.reddit-comments", havingValue = "true")
+    public CommandLineRunner backfillRedditCommentIndex() {
+        return args -> backfill("reddit", redditMetadataRepository, RedditMetadata::getEsDocId,
+                commentIndexService::indexRedditComments);
+    }
+
+    @FunctionalInterface
+    private interface SnapshotIndexer {
+        int index(String esDocId) throws Exception;
+    }
+
+    private <T> void backfill(String platform, JpaRepository<T, Long> repository,
+                              Function<T, String> esDocIdOf, SnapshotIndexer indexer) {
+        int snapshots = 0;
+        int documents = 0;
+        int failed = 0;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        while (true) {
+            Page<T> page = repository.findAll(pageable);
+            for (T metadata : page) {
+                String esDocId = esDocIdOf.apply(metadata);
+                try {
+                    documents += indexer.index(esDocId);
+                    snapshots++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("보조 인덱스 백필 실패 - platform: {}, esDocId: {}", platform, esDocId, e);
+                }
+            }
+            if (!page.hasNext()) break;
+            pageable = page.nextPageable();
+        }
+        log.info("보조 인덱스 백필 완료 - platform: {}, 스냅샷 {} 건, 문서 {} 건, 실패 {} 건",
+                platform, snapshots, documents, failed);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.ssj3pj.config.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.MetadataSummaryService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 요약 컬럼이 비어 있는 es_youtube_metadata / es_reddit_metadata 행을 ES 스냅샷으로 채움
+ * app.es.backfill.metadata-summary=true 일 때만 기동 시 한 번 실행 (이미 채워진 행은 건너뜀)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.es.backfill.metadata-summary", havingValue = "true")
+public class MetadataSummaryBackfillConfig {
+
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final MetadataSummaryService metadataSummaryService;
+
+    @Bean
+    public CommandLineRunner backfillMetadataSummary() {
+        return args -> {
+            int youtube = 0;
+            long lastId = 0L;
+            List<YoutubeMetadata> ytBatch;
+            while (!(ytBatch = youtubeMetadataRepository.findTop100ByIdGreaterThanAndViewCountIsNullOrderByIdAsc(lastId)).isEmpty()) {
+                for (YoutubeMetadata metadata : ytBatch) {
+                    lastId = metadata.getId();
+                    try {
+                        if (metadataSummaryService.fillYoutube(metadata)) {
+                            youtubeMetadataRepository.save(metadata);
+                            youtube++;
+                        }
+                    } catch (Exception e) {
+                        log.error("요약 컬럼 백필 실패 (youtube) - esDocId: {}", metadata.getEsDocId(), e);
+                    }
+                }
+            }
+
+            int reddit = 0;
+            lastId = 0L;
+            List<RedditMetadata> rdBatch;
+            while (!(rdBatch = redditMetadataRepository.findTop100ByIdGreaterThanAndPostCountIsNullOrderByIdAsc(lastId)).isEmpty()) {
+                for (RedditMetadata metadata : rdBatch) {
+                    lastId = metadata.getId();
+                    try {
+                        if (metadataSummaryService.fillReddit(metadata)) {
+                            redditMetadataRepository.save(metadata);
+                            reddit++;
+                        }
+                    } catch (Exception e) {
+                        log.error("요약 컬럼 백필 실패 (reddit) - esDocId: {}", metadata.getEsDocId(), e);
+                    }
+                }
+            }
+            log.info("요약 컬럼 백필 완료 - youtube {} 건, reddit {} 건", youtube, reddit);
+        };
+    }
+}
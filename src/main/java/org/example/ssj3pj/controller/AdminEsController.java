@@ -0,0 +1,67 @@
+package org.example.ssj3pj.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.services.ES.EsIndexTemplateService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * ES 인덱스 관리 API (템플릿 재등록, 재색인)
+ * X-Admin-Key 헤더가 app.admin.api-key 와 일치해야 하며, 키가 설정되지 않으면 비활성
+ */
+@RestController
+@RequestMapping("/api/admin/es")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminEsController {
+
+    private final EsIndexTemplateService esIndexTemplateService;
+
+    @Value("${app.admin.api-key:}")
+    private String adminApiKey;
+
+    @Tag(name = "admin", description = "인덱스 템플릿/파이프라인 재등록")
+    @PostMapping("/templates")
+    public Map<String, Object> installTemplates(HttpServletRequest request) throws IOException {
+        checkAdminKey(request);
+        esIndexTemplateService.installAll();
+        return Map.of("installed", EsIndexTemplateService.SNAPSHOT_INDICES);
+    }
+
+    @Tag(name = "admin", description = "재색인 시작 (task id 반환)")
+    @PostMapping("/reindex")
+    public Map<String, Object> reindex(HttpServletRequest request,
+                                       @RequestParam String source,
+                                       @RequestParam String dest) throws IOException {
+        checkAdminKey(request);
+        if (source.equals(dest)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "source and dest must differ");
+        }
+        return Map.of("taskId", esIndexTemplateService.startReindex(source, dest));
+    }
+
+    @Tag(name = "admin", description = "재색인 진행 상태")
+    @GetMapping("/tasks/{task_id}")
+    public Map<String, Object> task(HttpServletRequest request, @PathVariable("task_id") String taskId) throws IOException {
+        checkAdminKey(request);
+        return esIndexTemplateService.taskStatus(taskId);
+    }
+
+    private void checkAdminKey(HttpServletRequest request) {
+        String key = request.getHeader("X-Admin-Key");
+        if (adminApiKey.isBlank() || key == null
+                || !MessageDigest.isEqual(adminApiKey.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "admin key required");
+        }
+    }
+}
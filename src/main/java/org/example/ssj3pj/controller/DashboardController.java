@@ -0,0 +1,60 @@
+package org.example.ssj3pj.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.ssj3pj.dto.dashboard.DashboardOverviewDto;
+import org.example.ssj3pj.security.jwt.JwtUtils;
+import org.example.ssj3pj.services.DashboardOverviewService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardOverviewService svc;
+    private final JwtUtils jwtUtils;
+
+    // 유튜브/레딧 기간·전체 통계 + 조회수 상위 영상을 한 번에 (늦은 항목은 비우고 missing 에 표시)
+    @Tag(name = "dashboard", description = "대쉬보드")
+    @GetMapping("/overview")
+    public CompletableFuture<ResponseEntity<DashboardOverviewDto>> overview(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            HttpServletRequest request
+    ) {
+        String auth = request.getHeader("Authorization");
+        if (auth == null || !auth.startsWith("Bearer ")) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "missing bearer token");
+        }
+        String token = auth.substring(7);
+
+        String userName;
+        try {
+            userName = jwtUtils.getUserName(token);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
+        }
+
+        LocalDate s;
+        LocalDate e;
+        try {
+            s = LocalDate.parse(startDate);
+            e = LocalDate.parse(endDate);
+        } catch (DateTimeParseException ex) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return svc.overview(userName, s, e).thenApply(ResponseEntity::ok);
+    }
+}
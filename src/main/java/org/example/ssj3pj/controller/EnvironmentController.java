@@ -0,0 +1,41 @@
+package org.example.ssj3pj.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ssj3pj.services.ES.EnvironmentQueryService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 도시 데이터(citydata) 원본 조회 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/environment")
+@RequiredArgsConstructor
+public class EnvironmentController {
+
+    private final EnvironmentQueryService environmentQueryService;
+
+    /**
+     * ES 응답 바이트를 그대로 스트리밍 (fields 로 경로 필터)
+     */
+    @GetMapping(value = "/raw/{es_doc_id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getRawSource(@PathVariable("es_doc_id") String esDocId,
+                                                              @RequestParam(required = false) List<String> fields) throws IOException {
+        InputStream source = environmentQueryService.openRawSource(esDocId, fields);
+        if (source == null) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = out -> {
+            try (source) {
+                source.transferTo(out);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -15,8 +15,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -68,7 +68,7 @@ public class JobResultController {
 
     @Tag(name = "dashboard", description = "YouTube+Reddit 업로드 완료된 result_id 조회")
     @GetMapping("/result_id/both")
-    public List<BothUploadDto> getResultIdsUploadedToBoth(HttpServletRequest request) throws IOException{
+    public CompletableFuture<List<BothUploadDto>> getResultIdsUploadedToBoth(HttpServletRequest request) {
         String auth = request.getHeader("Authorization");
         if (auth == null || !auth.startsWith("Bearer ")) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "missing bearer token");
@@ -87,7 +87,7 @@ public class JobResultController {
 
     @Tag(name = "dashboard", description = "YouTube+Reddit 업로드 완료된 result_id 조회")
     @GetMapping("/both/{result_id}")
-    public ResponseEntity<BothResultDto> getBothDatasFromResultId(HttpServletRequest request, @RequestParam Long resultId) throws IOException {
+    public CompletableFuture<ResponseEntity<BothResultDto>> getBothDatasFromResultId(HttpServletRequest request, @RequestParam Long resultId) {
 
         String auth = request.getHeader("Authorization");
         if (auth == null || !auth.startsWith("Bearer ")) {
@@ -102,6 +102,6 @@ public class JobResultController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
         }
 
-        return ResponseEntity.ok(jobResultService.getBothDatasFromResultId(userName, resultId));
+        return jobResultService.getBothDatasFromResultId(userName, resultId).thenApply(ResponseEntity::ok);
     }
 }
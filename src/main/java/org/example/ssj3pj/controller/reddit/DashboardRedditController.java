@@ -7,14 +7,18 @@ import org.example.ssj3pj.dto.dashboard.DashboardRDRangeStats;
 import org.example.ssj3pj.dto.dashboard.DashboardRDTotalStats;
 import org.example.ssj3pj.dto.dashboard.DashboardYTRangeStats;
 import org.example.ssj3pj.dto.dashboard.DashboardYTTotalStats;
+import org.example.ssj3pj.redis.DashboardCacheService;
 import org.example.ssj3pj.security.jwt.JwtUtils;
+import org.example.ssj3pj.services.DashboardEtagService;
 import org.example.ssj3pj.services.Reddit.DashboardRedditService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
@@ -28,6 +32,7 @@ public class DashboardRedditController {
 
     private final DashboardRedditService svc;
     private final JwtUtils jwtUtils;
+    private final DashboardEtagService etagService;
 
     // ② 기간(일별 배열)
     @Tag(name = "dashboard", description = "대쉬보드")
@@ -37,7 +42,8 @@ public class DashboardRedditController {
             @RequestParam String endDate,
             @RequestParam(required = false) String region,
             @RequestParam(name = "channel_id", required = false) String channelId,
-            HttpServletRequest request
+            HttpServletRequest request,
+            WebRequest webRequest
     ) throws IOException {
         try {
             String auth = request.getHeader("Authorization");
@@ -54,7 +60,13 @@ public class DashboardRedditController {
             }
             LocalDate s = LocalDate.parse(startDate);
             LocalDate e = LocalDate.parse(endDate);
-            return ResponseEntity.ok(svc.rangeStats(s, e, region, channelId, userName));
+
+            // 새 스냅샷이 없으면 롤업 조회 없이 304
+            String etag = etagService.etag(DashboardCacheService.REDDIT, userName, "range", s, e, region, channelId);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
+            return ok(etag, svc.rangeStats(s, e, region, channelId, userName));
         } catch (DateTimeParseException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -63,8 +75,9 @@ public class DashboardRedditController {
     // ③ 전체 누적
     @Tag(name = "dashboard", description = "대쉬보드")
     @GetMapping("/total")
-    public DashboardRDTotalStats total(
+    public ResponseEntity<DashboardRDTotalStats> total(
             HttpServletRequest request,
+            WebRequest webRequest,
             @RequestParam(required = false) String region,
             @RequestParam(name = "channel_id", required = false) String channelId
     ) throws IOException {
@@ -80,6 +93,26 @@ public class DashboardRedditController {
         } catch (RuntimeException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
         }
-        return svc.totalStats(userName, region, channelId);
+
+        String etag = etagService.etag(DashboardCacheService.REDDIT, userName, "total", region, channelId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ok(etag, svc.totalStats(userName, region, channelId));
+    }
+
+    /* 매 요청 재검증 (If-None-Match), 사용자별 응답이라 공유 캐시에는 저장하지 않음 */
+    private static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
     }
 }
@@ -4,17 +4,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.example.ssj3pj.dto.dashboard.DashboardYTRangeStats;
 import org.example.ssj3pj.dto.dashboard.DashboardYTTotalStats;
+import org.example.ssj3pj.redis.DashboardCacheService;
 import org.example.ssj3pj.security.jwt.JwtUtils;
+import org.example.ssj3pj.services.DashboardEtagService;
 import org.example.ssj3pj.services.youtube.DashboardYoutubeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/dashboard/youtube")
@@ -23,17 +27,19 @@ public class DashboardYoutubeController {
 
     private final DashboardYoutubeService svc;
     private final JwtUtils jwtUtils;
+    private final DashboardEtagService etagService;
 
     // ② 기간(일별 배열)
     @Tag(name = "dashboard", description = "대쉬보드")
     @GetMapping("/range")
-    public ResponseEntity<DashboardYTRangeStats> daily(
+    public CompletableFuture<ResponseEntity<DashboardYTRangeStats>> daily(
             @RequestParam String startDate,
             @RequestParam String endDate,
             @RequestParam(required = false) String region,
             @RequestParam(name = "channel_id", required = false) String channelId,
-            HttpServletRequest request
-    ) throws IOException {
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
         try {
             String auth = request.getHeader("Authorization");
             if (auth == null || !auth.startsWith("Bearer ")) {
@@ -49,20 +55,27 @@ public class DashboardYoutubeController {
             }
             LocalDate s = LocalDate.parse(startDate);
             LocalDate e = LocalDate.parse(endDate);
-            return ResponseEntity.ok(svc.rangeStats(s, e, region, channelId, userName));
+
+            // 새 스냅샷이 없으면 ES/롤업 조회 없이 304
+            String etag = etagService.etag(DashboardCacheService.YOUTUBE, userName, "range", s, e, region, channelId);
+            if (webRequest.checkNotModified(etag)) {
+                return CompletableFuture.completedFuture(notModified(etag));
+            }
+            return svc.rangeStats(s, e, region, channelId, userName).thenApply(body -> ok(etag, body));
         } catch (DateTimeParseException e) {
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
     }
 
     // ③ 전체 누적
     @Tag(name = "dashboard", description = "대쉬보드")
     @GetMapping("/total")
-    public DashboardYTTotalStats total(
+    public CompletableFuture<ResponseEntity<DashboardYTTotalStats>> total(
             HttpServletRequest request,
+            WebRequest webRequest,
             @RequestParam(required = false) String region,
             @RequestParam(name = "channel_id", required = false) String channelId
-    ) throws IOException {
+    ) {
         String auth = request.getHeader("Authorization");
         if (auth == null || !auth.startsWith("Bearer ")) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "missing bearer token");
@@ -75,6 +88,26 @@ public class DashboardYoutubeController {
         } catch (RuntimeException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
         }
-        return svc.totalStats(userName, region, channelId);
+
+        String etag = etagService.etag(DashboardCacheService.YOUTUBE, userName, "total", region, channelId);
+        if (webRequest.checkNotModified(etag)) {
+            return CompletableFuture.completedFuture(notModified(etag));
+        }
+        return svc.totalStats(userName, region, channelId).thenApply(body -> ok(etag, body));
+    }
+
+    /* 매 요청 재검증 (If-None-Match), 사용자별 응답이라 공유 캐시에는 저장하지 않음 */
+    private static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
     }
 }
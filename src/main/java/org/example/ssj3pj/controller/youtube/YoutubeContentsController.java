@@ -5,6 +5,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.dto.youtube.YoutubeContentDetailDto;
+import org.example.ssj3pj.entity.User.Users;
+import org.example.ssj3pj.redis.VideoLeaderboardService;
+import org.example.ssj3pj.repository.UsersRepository;
 import org.example.ssj3pj.security.jwt.JwtUtils;
 import org.example.ssj3pj.services.ContentsService;
 import org.springframework.http.ResponseEntity;
@@ -15,9 +18,14 @@ import org.springframework.web.bind.annotation.*;
  */
 import org.example.ssj3pj.dto.request.CommentAnalyticRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
+import java.util.List;
 
 /**
  * 콘텐츠 상세 정보 조회 및 분석 API 컨트롤러
@@ -30,6 +38,8 @@ public class YoutubeContentsController {
 
     private final ContentsService contentsService;
     private final JwtUtils jwtUtils;
+    private final UsersRepository usersRepository;
+    private final VideoLeaderboardService videoLeaderboardService;
 
     /**
      * 특정 영상의 상세 정보를 조회
@@ -63,6 +73,69 @@ public class YoutubeContentsController {
         }
     }
 
+    /**
+     * 본인 영상 리더보드 - metric(views|likes|comments|engagement) 기준 상위 k 개
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<VideoLeaderboardService.Entry>> getLeaderboard(@RequestParam(defaultValue = "views") String metric,
+                                                                              @RequestParam(defaultValue = "10") int k,
+                                                                              HttpServletRequest request) {
+        String auth = request.getHeader("Authorization");
+        if (auth == null || !auth.startsWith("Bearer ")) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "missing bearer token");
+        }
+        String token = auth.substring(7);
+
+        String userName;
+        try {
+            userName = jwtUtils.getUserName(token);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
+        }
+
+        VideoLeaderboardService.Metric parsed;
+        try {
+            parsed = VideoLeaderboardService.Metric.from(metric);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Users user = usersRepository.findByUsername(userName)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "user not found"));
+        return ResponseEntity.ok(videoLeaderboardService.top(user.getId(), parsed, k));
+    }
+
+    /**
+     * 본인 스냅샷 원본 조회 - ES 응답 바이트를 그대로 스트리밍 (fields 로 경로 필터)
+     */
+    @GetMapping(value = "/raw/{es_doc_id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getRawSource(@PathVariable("es_doc_id") String esDocId,
+                                                              @RequestParam(required = false) List<String> fields,
+                                                              HttpServletRequest request) throws IOException {
+        String auth = request.getHeader("Authorization");
+        if (auth == null || !auth.startsWith("Bearer ")) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "missing bearer token");
+        }
+        String token = auth.substring(7);
+
+        String userName;
+        try {
+            userName = jwtUtils.getUserName(token);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid token");
+        }
+
+        InputStream source = contentsService.openYoutubeRawSource(esDocId, fields, userName);
+        if (source == null) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = out -> {
+            try (source) {
+                source.transferTo(out);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * 유튜브 댓글 분석을 요청
      */
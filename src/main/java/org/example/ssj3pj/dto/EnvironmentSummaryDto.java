@@ -1,9 +1,13 @@
 package org.example.ssj3pj.dto;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class EnvironmentSummaryDto {
 
     // 위치 정보
@@ -0,0 +1,21 @@
+package org.example.ssj3pj.dto.dashboard;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ssj3pj.dto.youtube.Top5VideoListDto;
+
+import java.util.List;
+
+/** 대시보드 화면 한 번에 필요한 값 - 기한 안에 못 채운 항목은 null 이고 missing 에 이름이 들어감 (유튜브 전체 통계는 youtube_range.total) */
+@Data @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class DashboardOverviewDto {
+    @JsonProperty("youtube_range") private DashboardYTRangeStats youtubeRange;
+    @JsonProperty("reddit_range") private DashboardRDRangeStats redditRange;
+    @JsonProperty("reddit_total") private DashboardRDTotalStats redditTotal;
+    @JsonProperty("top_videos") private Top5VideoListDto topVideos;
+    @JsonProperty("missing") private List<String> missing; // 실패/기한 초과 항목 (youtube_range, reddit_total ...)
+}
@@ -1,12 +1,15 @@
 package org.example.ssj3pj.dto.dashboard;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Data @Builder
+@NoArgsConstructor @AllArgsConstructor
 public class DashboardRDDayStats {
     private LocalDate date;
     @JsonProperty("post_count") private long postCount;
@@ -1,10 +1,13 @@
 package org.example.ssj3pj.dto.dashboard;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data @Builder
+@NoArgsConstructor @AllArgsConstructor
 public class DashboardRDTotalStats {
     @JsonProperty("total_post_count") private long totalPostCount;
     @JsonProperty("total_upvote_ratio")  private double totalUpvoteRatio;
@@ -1,10 +1,13 @@
 package org.example.ssj3pj.dto.dashboard;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data @Builder
+@NoArgsConstructor @AllArgsConstructor
 public class DashboardYTTotalStats {
     @JsonProperty("total_video_count") private long totalVideoCount;
     @JsonProperty("total_view_count")  private long totalViewCount;
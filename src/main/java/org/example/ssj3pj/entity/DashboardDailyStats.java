@@ -0,0 +1,66 @@
+package org.example.ssj3pj.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.ssj3pj.entity.User.Users;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 일별 롤업 - (사용자, 플랫폼, 채널, 날짜) 당 그날 마지막 스냅샷의 요약 한 행
+ * - 수집 시점(Kafka 컨슈머)에 upsert, 기존 데이터는 DashboardDailyStatsBackfillConfig 로 재구축
+ * - reddit 은 likes = upvote, video_count = post 수, youtube 는 upvote_ratio = 0
+ */
+@Entity
+@Table(name = "dashboard_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_daily_stats",
+                columnNames = {"user_id", "platform", "channel_id", "stat_day"}),
+        indexes = @Index(name = "idx_dashboard_daily_stats_range", columnList = "user_id, platform, stat_day"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_stats_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user;
+
+    @Column(name = "platform", nullable = false, length = 16)
+    private String platform;
+
+    @Column(name = "channel_id", nullable = false)
+    private String channelId;
+
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate day;
+
+    /** 이 행을 만든 스냅샷의 indexed_at (같은 날 더 늦은 스냅샷만 덮어씀) */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+
+    @Column(name = "likes", nullable = false)
+    private long likes;
+
+    @Column(name = "comments", nullable = false)
+    private long comments;
+
+    @Column(name = "subscribers", nullable = false)
+    private long subscribers;
+
+    @Column(name = "video_count", nullable = false)
+    private long videoCount;
+
+    @Column(name = "upvote_ratio", nullable = false)
+    private double upvoteRatio;
+}
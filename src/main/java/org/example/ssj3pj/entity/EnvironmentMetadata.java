@@ -11,8 +11,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class EnvironmentMetadata {
 
+    // 시퀀스 키: allocationSize 만큼 id 를 미리 받아 두어 INSERT 를 JDBC 배치로 묶을 수 있음 (IDENTITY 는 행마다 왕복)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "es_environment_metadata_seq")
+    @SequenceGenerator(name = "es_environment_metadata_seq", sequenceName = "es_environment_metadata_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "es_doc_id", nullable = false, unique = true)
@@ -9,7 +9,8 @@ import org.example.ssj3pj.entity.User.Users;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "es_reddit_metadata")
+@Table(name = "es_reddit_metadata",
+        indexes = @Index(name = "idx_es_reddit_metadata_user_indexed", columnList = "user_id, indexed_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,4 +36,22 @@ public class RedditMetadata {
     @Column(name = "indexed_at")
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime indexedAt;
+
+    /* ===== 수집 시점 요약 (스냅샷 posts[] 합계) - null 이면 아직 계산되지 않은 행 ===== */
+
+    @Column(name = "post_count")
+    private Long postCount;
+
+    @Column(name = "upvote_count")
+    private Long upvoteCount;
+
+    @Column(name = "comment_count")
+    private Long commentCount;
+
+    @Column(name = "upvote_ratio")
+    private Double upvoteRatio;
+
+    public boolean hasSummary() {
+        return postCount != null;
+    }
 }
@@ -0,0 +1,49 @@
+package org.example.ssj3pj.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.ssj3pj.entity.User.Users;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 유튜브 채널 분석 일별 롤업 - (사용자, 날짜) 당 그날 마지막 스냅샷의 트래픽 소스/인구통계 한 행
+ * - traffic_sources: {"YT_SEARCH": 123, ...} (조회수 0 인 소스 제외)
+ * - demographics: [["age18-24", "male", 12.3], ...] (연령, 성별, 시청 비율)
+ */
+@Entity
+@Table(name = "youtube_daily_breakdown",
+        uniqueConstraints = @UniqueConstraint(name = "uk_youtube_daily_breakdown", columnNames = {"user_id", "stat_day"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YoutubeDailyBreakdown {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "breakdown_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user;
+
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "es_doc_id", nullable = false)
+    private String esDocId;
+
+    /** 이 행을 만든 스냅샷의 indexed_at (같은 날 더 늦은 스냅샷만 덮어씀) */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Column(name = "traffic_sources", nullable = false, columnDefinition = "TEXT")
+    private String trafficSources;
+
+    @Column(name = "demographics", nullable = false, columnDefinition = "TEXT")
+    private String demographics;
+}
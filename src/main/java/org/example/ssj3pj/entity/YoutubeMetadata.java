@@ -9,7 +9,8 @@ import org.example.ssj3pj.entity.User.Users;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "es_youtube_metadata")
+@Table(name = "es_youtube_metadata",
+        indexes = @Index(name = "idx_es_youtube_metadata_user_indexed", columnList = "user_id, indexed_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,4 +36,25 @@ public class YoutubeMetadata {
     @Column(name = "indexed_at")
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime indexedAt;
+
+    /* ===== 수집 시점 요약 (스냅샷 videos[] 합계 + channel_stats) - null 이면 아직 계산되지 않은 행 ===== */
+
+    @Column(name = "view_count")
+    private Long viewCount;
+
+    @Column(name = "like_count")
+    private Long likeCount;
+
+    @Column(name = "comment_count")
+    private Long commentCount;
+
+    @Column(name = "subscriber_count")
+    private Long subscriberCount;
+
+    @Column(name = "video_count")
+    private Long videoCount;
+
+    public boolean hasSummary() {
+        return viewCount != null;
+    }
 }
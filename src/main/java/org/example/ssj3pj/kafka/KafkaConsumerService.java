@@ -1,5 +1,7 @@
 package org.example.ssj3pj.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.entity.EnvironmentMetadata;
@@ -8,15 +10,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.example.ssj3pj.services.CitySummaryCacheService;
 import org.example.ssj3pj.services.ES.EnvironmentQueryService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -25,6 +28,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class KafkaConsumerService {
 
     private final EnvironmentQueryService environmentDataService;
+    private final CitySummaryCacheService citySummaryCacheService;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${spring.topics.kafka.raw}")
@@ -37,46 +42,63 @@ public class KafkaConsumerService {
     private static final String COMPLETION_SIGNAL = "City data to ES Complete";
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    @KafkaListener(topics = "${spring.topics.kafka.raw}", groupId = "${spring.kafka.consumer.group-id}")
-    public void consume(
-            String jsonMessage,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            @Header("kafka_receivedPartitionId") int partition,
-            @Header("kafka_offset") long offset
-    ) {
-        try {
-            // 완료 신호 체크
-            if (isCompletionMessage(jsonMessage)) {
-                handleBatchCompletion(acknowledgment);
-                return;
-            }
-
-            // 일반 데이터 처리
-            EnvironmentMetadata environmentMetadata = parseEnvironmentMessage(jsonMessage);
-
-            if (environmentMetadata != null) {
-                synchronized (batchData) {
-                    batchData.add(environmentMetadata);
-                    int currentCount = messageCount.incrementAndGet();
-
-                    log.info("   배치 데이터 추가: {}/{} (location: {}, es_doc_id: {}, source: {})",
-                            currentCount, BATCH_SIZE,
-                            environmentMetadata.getLocation(),
-                            environmentMetadata.getEsDocId(),
-                            environmentMetadata.getSource());
+    /**
+     * poll 한 번의 레코드를 한꺼번에 처리
+     * - 데이터 레코드는 버퍼에 모으고, 완료 신호가 오면 그때까지 모인 행을 saveAll 로 한 번에 저장
+     * - 완료 신호가 다음 poll 에 올 수 있으므로 버퍼는 호출 사이에 유지
+     */
+    @KafkaListener(
+            topics = "${spring.topics.kafka.raw}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("📥 citydata 레코드 {}건 수신", records.size());
+        boolean completed = false;
+
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                String jsonMessage = record.value();
+
+                // 완료 신호 체크
+                if (isCompletionMessage(jsonMessage)) {
+                    flushBatch();
+                    completed = true;
+                    continue;
+                }
 
-                    // 배치 사이즈 도달 시 경고 (완료 신호 대기)
-                    if (currentCount >= BATCH_SIZE) {
-                        log.warn("⚠️ 배치 사이즈({})에 도달했습니다. 완료 신호 대기 중...", BATCH_SIZE);
+                // 일반 데이터 처리
+                EnvironmentMetadata environmentMetadata = parseEnvironmentMessage(jsonMessage);
+
+                if (environmentMetadata != null) {
+                    synchronized (batchData) {
+                        batchData.add(environmentMetadata);
+                        int currentCount = messageCount.incrementAndGet();
+
+                        log.debug("   배치 데이터 추가: {}/{} (location: {}, es_doc_id: {}, source: {}, offset: {}-{})",
+                                currentCount, BATCH_SIZE,
+                                environmentMetadata.getLocation(),
+                                environmentMetadata.getEsDocId(),
+                                environmentMetadata.getSource(),
+                                record.partition(), record.offset());
+
+                        // 배치 사이즈 도달 시 경고 (완료 신호 대기)
+                        if (currentCount == BATCH_SIZE) {
+                            log.warn("⚠️ 배치 사이즈({})에 도달했습니다. 완료 신호 대기 중...", BATCH_SIZE);
+                        }
                     }
                 }
+
+            } catch (Exception e) {
+                log.error("❌ 메시지 처리 중 오류 발생 (offset {}-{}): {}",
+                        record.partition(), record.offset(), e.getMessage(), e);
             }
+        }
 
-            acknowledgment.acknowledge();
+        acknowledgment.acknowledge();
 
-        } catch (Exception e) {
-            log.error("❌ 메시지 처리 중 오류 발생: {}", e.getMessage(), e);
+        if (completed) {
+            refreshCitySummaries();
         }
     }
 
@@ -140,26 +162,52 @@ public class KafkaConsumerService {
     }
 
     /**
-     * 배치 완료 처리 (부분 저장 방식)
+     * 새 배치가 ES에 반영됐으므로 지역별 요약 캐시 갱신 (커밋 이후, 실패해도 조회 시 ES 폴백)
+     */
+    private void refreshCitySummaries() {
+        try {
+            citySummaryCacheService.refreshAll();
+        } catch (Exception e) {
+            log.error("❌ 도시 요약 캐시 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 완료 처리 - saveAll 한 번 (JDBC 배치 INSERT), 실패 시 단건 저장으로 부분 저장
+     * 저장 소요 시간은 citydata.persist.duration{mode=batch|single} 로 기록
      */
-    private void handleBatchCompletion(Acknowledgment acknowledgment) {
+    private void flushBatch() {
         synchronized (batchData) {
             int dataSize = batchData.size();
             log.info("\n🎯 배치 완료 신호 수신! 총 {}개 데이터 저장 시도...", dataSize);
 
             if (dataSize == 0) {
                 log.warn("⚠️ 저장할 데이터가 없습니다.");
-                acknowledgment.acknowledge();
                 return;
             }
 
+            List<EnvironmentMetadata> toSave = new ArrayList<>(batchData);
+            batchData.clear();
+            messageCount.set(0);
+
+            long startNanos = System.nanoTime();
+            try {
+                environmentDataService.saveAll(toSave);
+                long elapsedNanos = recordPersist("batch", startNanos);
+                log.info("✅ 배치 저장 완료! {}건, {} ms ({} rows/s)",
+                        dataSize, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond(dataSize, elapsedNanos));
+                return;
+            } catch (Exception e) {
+                log.warn("⚠️ 일괄 저장 실패, 단건 저장으로 재시도: {}", e.getMessage());
+            }
+
             int successCount = 0;
             int failCount = 0;
-
-            List<EnvironmentMetadata> toSave = new ArrayList<>(batchData);
+            startNanos = System.nanoTime();
 
             for (EnvironmentMetadata data : toSave) {
                 try {
+                    data.setId(null); // 롤백된 일괄 저장에서 받은 id 제거
                     environmentDataService.save(data); // 단건 저장
                     successCount++;
                 } catch (Exception e) {
@@ -168,13 +216,25 @@ public class KafkaConsumerService {
                 }
             }
 
-            log.info("✅ 배치 저장 완료! 성공 {}건, 실패 {}건", successCount, failCount);
-
-            // 배치 데이터 초기화 및 오프셋 커밋
-            batchData.clear();
-            messageCount.set(0);
-            acknowledgment.acknowledge();
-            log.info("✅ 배치 처리 및 커밋 완료!\n");
+            long elapsedNanos = recordPersist("single", startNanos);
+            log.info("✅ 단건 저장 완료! 성공 {}건, 실패 {}건, {} ms ({} rows/s)",
+                    successCount, failCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    rowsPerSecond(successCount, elapsedNanos));
         }
     }
+
+    private long recordPersist(String mode, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder("citydata.persist.duration")
+                .description("citydata 배치 저장 소요 시간")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return elapsedNanos;
+    }
+
+    private static long rowsPerSecond(int rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+    }
 }
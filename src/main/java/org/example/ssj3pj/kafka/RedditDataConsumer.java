@@ -8,9 +8,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.entity.RedditMetadata;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.redis.DashboardCacheService;
 import org.example.ssj3pj.repository.RedditMetadataRepository;
 import org.example.ssj3pj.repository.UsersRepository;
 import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.CommentIndexService;
+import org.example.ssj3pj.services.DashboardDailyStatsService;
+import org.example.ssj3pj.services.MetadataSummaryService;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
@@ -26,6 +30,10 @@ public class RedditDataConsumer {
     private final ObjectMapper objectMapper;
     private final RedditMetadataRepository redditMetadataRepository;
     private final UsersRepository usersRepository;
+    private final MetadataSummaryService metadataSummaryService;
+    private final CommentIndexService commentIndexService;
+    private final DashboardCacheService dashboardCacheService;
+    private final DashboardDailyStatsService dashboardDailyStatsService;
 
     @KafkaListener(
             topics = "${spring.topics.kafka.raw3}",
@@ -56,9 +64,33 @@ public class RedditDataConsumer {
                     .indexedAt(indexedAt)
                     .build();
 
+            // 대시보드용 요약 컬럼을 수집 시점에 한 번 계산 (실패하면 비워 두고 조회 시 ES에서 계산)
+            try {
+                metadataSummaryService.fillReddit(redditMetadata);
+            } catch (Exception e) {
+                log.error("Failed to summarize esDocId {}", esDocId, e);
+            }
+
             redditMetadataRepository.save(redditMetadata);
             log.info("Successfully saved RedditMetadata for user {} and channel {}", userId, channelId);
 
+            // 대시보드 일별 롤업 갱신 (실패하면 백필로 재구축)
+            try {
+                dashboardDailyStatsService.upsertReddit(redditMetadata);
+            } catch (Exception e) {
+                log.error("Failed to upsert daily stats for esDocId {}", esDocId, e);
+            }
+
+            // 새 스냅샷이 들어왔으므로 사용자의 대시보드 캐시 무효화
+            dashboardCacheService.evictUser(DashboardCacheService.REDDIT, user.getUsername());
+
+            // 댓글 분리 인덱스 갱신 (실패해도 메타데이터 저장은 유지, 조회 시 스냅샷 탐색으로 대체됨)
+            try {
+                commentIndexService.indexRedditComments(esDocId);
+            } catch (Exception e) {
+                log.error("Failed to index comments for esDocId {}", esDocId, e);
+            }
+
         } catch (JsonProcessingException e) {
             log.error("Failed to parse redditdata message", e);
         } catch (Exception e) {
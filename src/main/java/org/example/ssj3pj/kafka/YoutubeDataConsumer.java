@@ -7,8 +7,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.redis.DashboardCacheService;
+import org.example.ssj3pj.redis.VideoLeaderboardService;
 import org.example.ssj3pj.repository.UsersRepository;
 import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.example.ssj3pj.services.ES.YoutubeVideoIndexService;
+import org.example.ssj3pj.services.DashboardDailyStatsService;
+import org.example.ssj3pj.services.MetadataSummaryService;
+import org.example.ssj3pj.services.youtube.YoutubeBreakdownService;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
@@ -24,6 +31,13 @@ public class YoutubeDataConsumer {
     private final ObjectMapper objectMapper;
     private final YoutubeMetadataRepository youtubeMetadataRepository;
     private final UsersRepository usersRepository;
+    private final MetadataSummaryService metadataSummaryService;
+    private final YoutubeVideoIndexService youtubeVideoIndexService;
+    private final DashboardCacheService dashboardCacheService;
+    private final DashboardDailyStatsService dashboardDailyStatsService;
+    private final YoutubeBreakdownService youtubeBreakdownService;
+    private final YoutubeQueryService youtubeQueryService;
+    private final VideoLeaderboardService videoLeaderboardService;
 
     @KafkaListener(
             topics = "${spring.topics.kafka.raw2}",
@@ -54,9 +68,47 @@ public class YoutubeDataConsumer {
                     .indexedAt(indexedAt)
                     .build();
 
+            // 대시보드용 요약 컬럼을 수집 시점에 한 번 계산 (실패하면 비워 두고 조회 시 ES에서 계산)
+            try {
+                metadataSummaryService.fillYoutube(youtubeMetadata);
+            } catch (Exception e) {
+                log.error("Failed to summarize esDocId {}", esDocId, e);
+            }
+
             youtubeMetadataRepository.save(youtubeMetadata);
             log.info("Successfully saved YoutubeMetadata for user {} and channel {}", userId, channelId);
 
+            // 대시보드 일별 롤업 갱신 (실패하면 백필로 재구축)
+            try {
+                dashboardDailyStatsService.upsertYoutube(youtubeMetadata);
+            } catch (Exception e) {
+                log.error("Failed to upsert daily stats for esDocId {}", esDocId, e);
+            }
+
+            // 새 스냅샷이 들어왔으므로 사용자의 대시보드 캐시 무효화
+            dashboardCacheService.evictUser(DashboardCacheService.YOUTUBE, user.getUsername());
+
+            // 트래픽 소스/인구통계 일별 롤업 갱신 (실패하면 조회는 ES 에서 응답, 롤업은 기동 백필로 복구)
+            try {
+                youtubeBreakdownService.extract(youtubeMetadata);
+            } catch (Exception e) {
+                log.error("Failed to extract breakdown for esDocId {}", esDocId, e);
+            }
+
+            // 영상 리더보드 갱신 (요약 계산 때 캐시된 영상 통계 프로젝션을 그대로 사용)
+            try {
+                videoLeaderboardService.update(userId, indexedAt, youtubeQueryService.findVideoStats(esDocId));
+            } catch (Exception e) {
+                log.error("Failed to update video leaderboard for esDocId {}", esDocId, e);
+            }
+
+            // 영상 단위 보조 인덱스 갱신 (실패해도 메타데이터 저장은 유지, 조회 시 스냅샷 탐색으로 대체됨)
+            try {
+                youtubeVideoIndexService.indexSnapshot(esDocId);
+            } catch (Exception e) {
+                log.error("Failed to index videos for esDocId {}", esDocId, e);
+            }
+
         } catch (JsonProcessingException e) {
             log.error("Failed to parse youtubedata message", e);
         } catch (Exception e) {
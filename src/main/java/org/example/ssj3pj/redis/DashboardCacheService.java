@@ -0,0 +1,159 @@
+package org.example.ssj3pj.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 응답 캐시 (Redis)
+ * - 키: dashboard:{platform}:{username}:v{버전}:{endpoint}:{인자}
+ * - 새 메타데이터가 저장되면(Kafka 컨슈머) 사용자 버전을 올려 이전 응답을 한 번에 무효화 (이전 키는 TTL 로 만료)
+ * - Redis 장애 시에는 캐시 없이 계산 결과를 그대로 반환
+ * - hit/miss 는 dashboard.cache.requests{platform,result}, 적중률은 dashboard.cache.hit.ratio 로 노출
+ */
+@Service
+@Slf4j
+public class DashboardCacheService {
+
+    public static final String YOUTUBE = "youtube";
+    public static final String REDDIT = "reddit";
+
+    private static final String KEY_PREFIX = "dashboard:";
+    private static final String VERSION_PREFIX = "dashboard:ver:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final boolean enabled;
+
+    public DashboardCacheService(StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.dashboard.cache.ttl:30m}") Duration ttl,
+                                 @Value("${app.dashboard.cache.enabled:true}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.enabled = enabled;
+
+        for (String platform : new String[]{YOUTUBE, REDDIT}) {
+            Counter hits = counter(platform, "hit");
+            Counter misses = counter(platform, "miss");
+            Gauge.builder("dashboard.cache.hit.ratio", () -> {
+                        double total = hits.count() + misses.count();
+                        return total == 0 ? 0.0 : hits.count() / total;
+                    })
+                    .tag("platform", platform)
+                    .description("대시보드 캐시 적중률")
+                    .register(meterRegistry);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws IOException;
+    }
+
+    /** 캐시된 응답이 있으면 반환, 없으면 계산 후 저장 */
+    public <T> T getOrCompute(String platform, String username, String endpoint, String args,
+                              Class<T> type, Loader<T> loader) throws IOException {
+        if (!enabled) {
+            return loader.load();
+        }
+        String key = key(platform, username, endpoint, args);
+        T cached = read(platform, key, type);
+        if (cached != null) {
+            return cached;
+        }
+        T value = loader.load();
+        write(key, value);
+        return value;
+    }
+
+    /** getOrCompute 비동기 버전 - 캐시 적중 시 바로 완료된 future */
+    public <T> CompletableFuture<T> getOrComputeAsync(String platform, String username, String endpoint, String args,
+                                                      Class<T> type, Supplier<CompletableFuture<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = key(platform, username, endpoint, args);
+        T cached = read(platform, key, type);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loader.get().thenApply(value -> {
+            write(key, value);
+            return value;
+        });
+    }
+
+    /**
+     * 사용자의 해당 플랫폼 응답 전체 무효화 (새 스냅샷 저장 시 - 롤업까지 쓴 뒤 마지막에 호출)
+     * 버전은 ETag 에도 쓰이므로 캐시를 꺼도 올리고, 만료시키지 않음 (만료 후 0 으로 돌아가면 옛 ETag 와 겹칠 수 있음)
+     */
+    public void evictUser(String platform, String username) {
+        try {
+            stringRedisTemplate.opsForValue().increment(VERSION_PREFIX + platform + ":" + username);
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 무효화 실패 - platform: {}, user: {}", platform, username, e);
+        }
+    }
+
+    /** 사용자의 현재 응답 버전 (Redis 장애 시 "0") */
+    public String version(String platform, String username) {
+        try {
+            String stored = stringRedisTemplate.opsForValue().get(VERSION_PREFIX + platform + ":" + username);
+            if (stored != null) return stored;
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 버전 조회 실패 - platform: {}, user: {}", platform, username, e);
+        }
+        return "0";
+    }
+
+    private String key(String platform, String username, String endpoint, String args) {
+        return KEY_PREFIX + platform + ":" + username + ":v" + version(platform, username) + ":" + endpoint + ":" + args;
+    }
+
+    private <T> T read(String platform, String key, Class<T> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json != null) {
+                counter(platform, "hit").increment();
+                return objectMapper.readValue(json, type);
+            }
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 조회 실패 - key: {}", key, e);
+        }
+        counter(platform, "miss").increment();
+        return null;
+    }
+
+    private void write(String key, Object value) {
+        if (value == null) return;
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("대시보드 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    private Counter counter(String platform, String result) {
+        return Counter.builder("dashboard.cache.requests")
+                .tag("platform", platform)
+                .tag("result", result)
+                .description("대시보드 캐시 조회")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.ssj3pj.redis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 유튜브 영상 리더보드 (Redis sorted set)
+ * - 수집 시점: 스냅샷 videos[] 를 한 번 훑어 지표별 상위 max-k 개만 크기 제한 힙으로 남기고 ZSET 을 통째로 교체
+ *   (스냅샷 시각 비교와 교체는 Lua 스크립트 하나로 원자 실행)
+ * - 조회 시점: ZREVRANGE 0 k-1 (O(log N + k))
+ * - 키: leaderboard:youtube:{userId}:{metric}, 반영한 스냅샷 시각은 leaderboard:youtube:{userId}:snapshot_at
+ */
+@Service
+@Slf4j
+public class VideoLeaderboardService {
+
+    private static final String KEY_PREFIX = "leaderboard:youtube:";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Duration TMP_TTL = Duration.ofMinutes(5);
+
+    /**
+     * KEYS: snapshot_at 키, 지표 키 n 개, 임시 키 n 개 / ARGV: 스냅샷 시각(ms), n
+     * 더 새 스냅샷이 반영돼 있으면 임시 키만 지우고 0, 아니면 임시 키를 RENAME(비어 있던 지표는 DEL)하고 시각을 기록한 뒤 1
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[2])\n" +
+            "local applied = redis.call('GET', KEYS[1])\n" +
+            "if applied and tonumber(applied) > tonumber(ARGV[1]) then\n" +
+            "  for i = 1, n do redis.call('DEL', KEYS[1 + n + i]) end\n" +
+            "  return 0\n" +
+            "end\n" +
+            "for i = 1, n do\n" +
+            "  local key, tmp = KEYS[1 + i], KEYS[1 + n + i]\n" +
+            "  if redis.call('EXISTS', tmp) == 1 then\n" +
+            "    redis.call('RENAME', tmp, key)\n" +
+            "    redis.call('PERSIST', key)\n" +
+            "  else\n" +
+            "    redis.call('DEL', key)\n" +
+            "  end\n" +
+            "end\n" +
+            "redis.call('SET', KEYS[1], ARGV[1])\n" +
+            "return 1",
+            Long.class);
+
+    public enum Metric {
+        VIEWS, LIKES, COMMENTS, ENGAGEMENT;
+
+        public static Metric from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Entry(String videoId, double score) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxK;
+
+    public VideoLeaderboardService(StringRedisTemplate stringRedisTemplate,
+                                   @Value("${youtube.leaderboard.max-k:50}") int maxK) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxK = Math.max(1, maxK);
+    }
+
+    /** 스냅샷 videos 배열로 리더보드 교체 - 이미 더 새 스냅샷이 반영돼 있으면 건너뜀 (false) */
+    public boolean update(Long userId, LocalDateTime snapshotAt, JsonNode videos) {
+        String snapshotKey = KEY_PREFIX + userId + ":snapshot_at";
+        long snapshotMillis = snapshotAt.atZone(KST).toInstant().toEpochMilli();
+        // 힙 계산 전 빠른 건너뛰기 (최종 판단은 APPLY_SCRIPT 에서 원자적으로)
+        String applied = stringRedisTemplate.opsForValue().get(snapshotKey);
+        if (applied != null && Long.parseLong(applied) > snapshotMillis) {
+            log.info("리더보드 갱신 건너뜀 - 더 새 스냅샷 반영됨: userId={}", userId);
+            return false;
+        }
+
+        List<PriorityQueue<Entry>> heaps = new ArrayList<>();
+        for (int i = 0; i < Metric.values().length; i++) {
+            heaps.add(new PriorityQueue<>(Comparator.comparingDouble(Entry::score)));
+        }
+        for (JsonNode video : videos) {
+            String videoId = video.path("video_id").asText(null);
+            if (videoId == null) continue;
+            long views = video.path("view_count").asLong(0);
+            long likes = video.path("like_count").asLong(0);
+            long comments = video.path("comment_count").asLong(0);
+            offer(heaps.get(Metric.VIEWS.ordinal()), new Entry(videoId, views));
+            offer(heaps.get(Metric.LIKES.ordinal()), new Entry(videoId, likes));
+            offer(heaps.get(Metric.COMMENTS.ordinal()), new Entry(videoId, comments));
+            if (views > 0) {
+                offer(heaps.get(Metric.ENGAGEMENT.ordinal()), new Entry(videoId, (double) (likes + comments) / views));
+            }
+        }
+
+        // 요청마다 다른 임시 키에 채운 뒤, 스냅샷 시각 비교 + RENAME + snapshot_at 기록을 스크립트 하나로 원자 실행
+        // (컨슈머 둘이 동시에 검사를 통과해 옛 스냅샷이 새 리더보드를 덮어쓰지 않도록)
+        String suffix = ":tmp:" + UUID.randomUUID();
+        List<String> keys = new ArrayList<>();
+        keys.add(snapshotKey);
+        for (Metric metric : Metric.values()) {
+            keys.add(key(userId, metric));
+        }
+        for (Metric metric : Metric.values()) {
+            String tmpKey = key(userId, metric) + suffix;
+            keys.add(tmpKey);
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (Entry entry : heaps.get(metric.ordinal())) {
+                tuples.add(new DefaultTypedTuple<>(entry.videoId(), entry.score()));
+            }
+            if (!tuples.isEmpty()) {
+                stringRedisTemplate.opsForZSet().add(tmpKey, tuples);
+                stringRedisTemplate.expire(tmpKey, TMP_TTL);   // 스크립트 전에 죽으면 임시 키만 만료
+            }
+        }
+        Long swapped = stringRedisTemplate.execute(APPLY_SCRIPT, keys,
+                Long.toString(snapshotMillis), Integer.toString(Metric.values().length));
+        if (swapped == null || swapped == 0L) {
+            log.info("리더보드 갱신 건너뜀 - 더 새 스냅샷 반영됨: userId={}", userId);
+            return false;
+        }
+        return true;
+    }
+
+    /** 지표별 상위 k 개 (점수 내림차순, k 는 max-k 까지) */
+    public List<Entry> top(Long userId, Metric metric, int k) {
+        int limit = Math.min(k, maxK);
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key(userId, metric), 0, limit - 1);
+        List<Entry> result = new ArrayList<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                result.add(new Entry(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0.0));
+            }
+        }
+        return result;
+    }
+
+    /** 최소 힙을 max-k 크기로 유지 - 힙의 최솟값보다 큰 값만 교체 */
+    private void offer(PriorityQueue<Entry> heap, Entry entry) {
+        if (heap.size() < maxK) {
+            heap.add(entry);
+        } else if (entry.score() > heap.peek().score()) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private static String key(Long userId, Metric metric) {
+        return KEY_PREFIX + userId + ":" + metric.key();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.ssj3pj.repository;
+
+import org.example.ssj3pj.entity.DashboardDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DashboardDailyStatsRepository extends JpaRepository<DashboardDailyStats, Long> {
+
+    // (user_id, platform, stat_day) 인덱스 범위 스캔
+    List<DashboardDailyStats> findByUser_IdAndPlatformAndDayBetweenOrderByDayAsc(
+            Long userId, String platform, LocalDate start, LocalDate end);
+
+    // 전체 누적용 - 롤업의 가장 최근 날짜 (행이 없으면 null)
+    @Query("SELECT MAX(s.day) FROM DashboardDailyStats s WHERE s.user.id = :userId AND s.platform = :platform")
+    LocalDate findLatestStatDay(@Param("userId") Long userId, @Param("platform") String platform);
+
+    // 같은 날 더 늦은(또는 같은) 스냅샷일 때만 덮어씀 - 재처리/백필을 반복해도 결과가 같음
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO dashboard_daily_stats " +
+            "(user_id, platform, channel_id, stat_day, snapshot_at, views, likes, comments, subscribers, video_count, upvote_ratio) " +
+            "VALUES (:userId, :platform, :channelId, :day, :snapshotAt, :views, :likes, :comments, :subscribers, :videoCount, :upvoteRatio) " +
+            "ON CONFLICT (user_id, platform, channel_id, stat_day) DO UPDATE SET " +
+            "snapshot_at = EXCLUDED.snapshot_at, views = EXCLUDED.views, likes = EXCLUDED.likes, " +
+            "comments = EXCLUDED.comments, subscribers = EXCLUDED.subscribers, " +
+            "video_count = EXCLUDED.video_count, upvote_ratio = EXCLUDED.upvote_ratio " +
+            "WHERE dashboard_daily_stats.snapshot_at <= EXCLUDED.snapshot_at",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("platform") String platform,
+               @Param("channelId") String channelId,
+               @Param("day") LocalDate day,
+               @Param("snapshotAt") LocalDateTime snapshotAt,
+               @Param("views") long views,
+               @Param("likes") long likes,
+               @Param("comments") long comments,
+               @Param("subscribers") long subscribers,
+               @Param("videoCount") long videoCount,
+               @Param("upvoteRatio") double upvoteRatio);
+}
@@ -4,17 +4,44 @@ import org.example.ssj3pj.entity.RedditMetadata;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RedditMetadataRepository extends JpaRepository<RedditMetadata, Long> {
 
     Optional<RedditMetadata> findFirstByUserOrderByIndexedAtDesc(Users user);
-    Optional<RedditMetadata> findFirstByUserAndIndexedAtBetweenOrderByIndexedAtDesc(
-            Users user,
-            LocalDateTime start,
-            LocalDateTime  end
-    );
     Optional<RedditMetadata> findFirstByUserAndChannelIdOrderByIndexedAtDesc(Users user, String channelId);
+
+    // [start, end) 기간의 날짜별 최신 행 (쿼리 한 번, 날짜 오름차순)
+    @Query(value = "SELECT DISTINCT ON (CAST(m.indexed_at AS date)) m.* " +
+            "FROM es_reddit_metadata m " +
+            "WHERE m.user_id = :userId AND m.indexed_at >= :start AND m.indexed_at < :end " +
+            "ORDER BY CAST(m.indexed_at AS date), m.indexed_at DESC",
+            nativeQuery = true)
+    List<RedditMetadata> findLatestPerDay(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // [start, end) 기간의 (날짜, 채널)별 최신 행 - 일별 롤업 누락 보충용
+    @Query(value = "SELECT DISTINCT ON (CAST(m.indexed_at AS date), m.channel_id) m.* " +
+            "FROM es_reddit_metadata m " +
+            "WHERE m.user_id = :userId AND m.indexed_at >= :start AND m.indexed_at < :end " +
+            "ORDER BY CAST(m.indexed_at AS date), m.channel_id, m.indexed_at DESC",
+            nativeQuery = true)
+    List<RedditMetadata> findLatestPerChannelDay(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 대시보드 ETag 용 - 사용자의 가장 최근 수집 시각 (없으면 null)
+    @Query("SELECT MAX(m.indexedAt) FROM RedditMetadata m WHERE m.user.username = :username")
+    LocalDateTime findLatestIndexedAtByUsername(@Param("username") String username);
+
+    // 요약 컬럼 백필용 (id 커서)
+    List<RedditMetadata> findTop100ByIdGreaterThanAndPostCountIsNullOrderByIdAsc(Long id);
     }
@@ -0,0 +1,39 @@
+package org.example.ssj3pj.repository;
+
+import org.example.ssj3pj.entity.YoutubeDailyBreakdown;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface YoutubeDailyBreakdownRepository extends JpaRepository<YoutubeDailyBreakdown, Long> {
+
+    // (user_id, stat_day) 유니크 인덱스 범위 스캔
+    List<YoutubeDailyBreakdown> findByUser_IdAndDayBetweenOrderByDayAsc(Long userId, LocalDate start, LocalDate end);
+
+    // 백필 시 이미 같은(또는 더 늦은) 스냅샷이 반영됐는지 확인
+    boolean existsByUser_IdAndDayAndSnapshotAtGreaterThanEqual(Long userId, LocalDate day, LocalDateTime snapshotAt);
+
+    // 같은 날 더 늦은(또는 같은) 스냅샷일 때만 덮어씀
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO youtube_daily_breakdown " +
+            "(user_id, stat_day, es_doc_id, snapshot_at, traffic_sources, demographics) " +
+            "VALUES (:userId, :day, :esDocId, :snapshotAt, :trafficSources, :demographics) " +
+            "ON CONFLICT (user_id, stat_day) DO UPDATE SET " +
+            "es_doc_id = EXCLUDED.es_doc_id, snapshot_at = EXCLUDED.snapshot_at, " +
+            "traffic_sources = EXCLUDED.traffic_sources, demographics = EXCLUDED.demographics " +
+            "WHERE youtube_daily_breakdown.snapshot_at <= EXCLUDED.snapshot_at",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("day") LocalDate day,
+               @Param("esDocId") String esDocId,
+               @Param("snapshotAt") LocalDateTime snapshotAt,
+               @Param("trafficSources") String trafficSources,
+               @Param("demographics") String demographics);
+}
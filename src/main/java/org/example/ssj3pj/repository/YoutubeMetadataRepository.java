@@ -3,6 +3,8 @@ package org.example.ssj3pj.repository;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -12,11 +14,39 @@ import java.util.Optional;
 public interface YoutubeMetadataRepository extends JpaRepository<YoutubeMetadata, Long> {
 
     Optional<YoutubeMetadata> findFirstByUserOrderByIndexedAtDesc(Users user);
-    Optional<YoutubeMetadata> findFirstByUserAndIndexedAtBetweenOrderByIndexedAtDesc(
-            Users user,
-            LocalDateTime start,
-            LocalDateTime  end
-    );
     Optional<YoutubeMetadata> findFirstByUserAndIndexedAtBeforeOrderByIndexedAtDesc(Users user, LocalDateTime dateTime);
     Optional<YoutubeMetadata> findFirstByUserAndChannelIdOrderByIndexedAtDesc(Users user, String channelId);
+    boolean existsByUserAndEsDocId(Users user, String esDocId);
+
+    // (user_id, indexed_at) 인덱스 - 같은 날 더 늦은 스냅샷이 있는지
+    boolean existsByUserAndIndexedAtGreaterThanAndIndexedAtLessThan(Users user, LocalDateTime after, LocalDateTime before);
+
+    // [start, end) 기간의 날짜별 최신 행 (쿼리 한 번, 날짜 오름차순)
+    @Query(value = "SELECT DISTINCT ON (CAST(m.indexed_at AS date)) m.* " +
+            "FROM es_youtube_metadata m " +
+            "WHERE m.user_id = :userId AND m.indexed_at >= :start AND m.indexed_at < :end " +
+            "ORDER BY CAST(m.indexed_at AS date), m.indexed_at DESC",
+            nativeQuery = true)
+    List<YoutubeMetadata> findLatestPerDay(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // [start, end) 기간의 (날짜, 채널)별 최신 행 - 일별 롤업 누락 보충용
+    @Query(value = "SELECT DISTINCT ON (CAST(m.indexed_at AS date), m.channel_id) m.* " +
+            "FROM es_youtube_metadata m " +
+            "WHERE m.user_id = :userId AND m.indexed_at >= :start AND m.indexed_at < :end " +
+            "ORDER BY CAST(m.indexed_at AS date), m.channel_id, m.indexed_at DESC",
+            nativeQuery = true)
+    List<YoutubeMetadata> findLatestPerChannelDay(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 대시보드 ETag 용 - 사용자의 가장 최근 수집 시각 (없으면 null)
+    @Query("SELECT MAX(m.indexedAt) FROM YoutubeMetadata m WHERE m.user.username = :username")
+    LocalDateTime findLatestIndexedAtByUsername(@Param("username") String username);
+
+    // 요약 컬럼 백필용 (id 커서)
+    List<YoutubeMetadata> findTop100ByIdGreaterThanAndViewCountIsNullOrderByIdAsc(Long id);
 }
@@ -7,7 +7,7 @@ import org.example.ssj3pj.dto.request.UserRequestData;
 import org.example.ssj3pj.entity.Job;
 import org.example.ssj3pj.redis.VideoRequestService;
 import org.example.ssj3pj.repository.JobRepository;
-import org.example.ssj3pj.services.ES.EnvironmentQueryService;
+import org.example.ssj3pj.services.CitySummaryCacheService;
 import org.example.ssj3pj.services.VideoPromptSender;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
@@ -23,7 +23,7 @@ public class DynamicVideoScheduler {
 
     private final TaskScheduler taskScheduler;
     private final JobRepository jobRepository;
-    private final EnvironmentQueryService environmentQueryService;
+    private final CitySummaryCacheService citySummaryCacheService;
     private final VideoPromptSender sender;
     private final VideoRequestService videoRequestService;
 
@@ -81,7 +81,7 @@ public class DynamicVideoScheduler {
         // ✅ null-safe 체크
         if (Boolean.TRUE.equals(job.getUseCitydata())) {
             log.info("Citydata used!");
-            summary = environmentQueryService.getRecentSummaryByLocation(data.getLocationCode());
+            summary = citySummaryCacheService.get(data.getLocationCode());
             if (summary == null) {
                 log.warn("[SCHED] No ES data for locationCode={} job={}", data.getLocationCode(), jobId);
                 return;
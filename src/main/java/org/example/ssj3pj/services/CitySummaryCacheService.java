@@ -0,0 +1,166 @@
+package org.example.ssj3pj.services;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.dto.EnvironmentSummaryDto;
+import org.example.ssj3pj.services.ES.EnvironmentQueryService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 지역 코드 → 최근 1시간 도시 요약(EnvironmentSummaryDto) 캐시
+ * - citydata 배치 완료(KafkaConsumerService) 시 조회된 적 있는 지역을 일괄 갱신 (전용 단일 스레드에서 실행)
+ * - 배치 신호가 끊겨 max-age 가 지나면 조회 시 ES 에서 다시 계산 (스케줄러가 주기적으로도 갱신)
+ * - redis-enabled=true 면 갱신 결과를 갱신 시각과 함께 Redis 에도 저장해 다른 인스턴스와 공유
+ */
+@Service
+@Slf4j
+public class CitySummaryCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "citydata:summary:";
+
+    private final EnvironmentQueryService environmentQueryService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration maxAge;
+    private final Duration idleTimeout;
+    private final boolean redisEnabled;
+    private final Executor refreshExecutor;
+
+    private record Entry(EnvironmentSummaryDto summary, Instant refreshedAt) {}
+
+    /** Redis 공유 값 - 다른 인스턴스가 읽어도 max-age 가 원래 갱신 시각 기준으로 계산되도록 시각을 같이 저장 */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SharedSummary {
+        private EnvironmentSummaryDto summary;
+        private long refreshedAtEpochMillis;
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastAccess = new ConcurrentHashMap<>();
+
+    public CitySummaryCacheService(EnvironmentQueryService environmentQueryService,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   @Value("${app.citydata.summary-cache.max-age:15m}") Duration maxAge,
+                                   @Value("${app.citydata.summary-cache.idle-timeout:24h}") Duration idleTimeout,
+                                   @Value("${app.citydata.summary-cache.redis-enabled:false}") boolean redisEnabled,
+                                   @Qualifier("citySummaryRefreshExecutor") Executor refreshExecutor) {
+        this.environmentQueryService = environmentQueryService;
+        this.redisTemplate = redisTemplate;
+        this.maxAge = maxAge;
+        this.idleTimeout = idleTimeout;
+        this.redisEnabled = redisEnabled;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /** 캐시된 요약 (없거나 오래됐으면 Redis → ES 순으로 조회), ES에도 없으면 null */
+    public EnvironmentSummaryDto get(String locationCode) {
+        lastAccess.put(locationCode, Instant.now());
+
+        Entry entry = entries.get(locationCode);
+        if (entry != null && isFresh(entry)) {
+            return entry.summary();
+        }
+
+        if (redisEnabled) {
+            Entry shared = readShared(locationCode);
+            if (shared != null && isFresh(shared)) {
+                entries.put(locationCode, shared);
+                return shared.summary();
+            }
+        }
+
+        log.info("도시 요약 캐시 미스 - ES 조회: {}", locationCode);
+        return refresh(locationCode);
+    }
+
+    /** 새 citydata 배치 반영 - 호출 스레드를 막지 않고 전용 스레드에 넘김 (이미 대기 중인 갱신이 있으면 합쳐짐) */
+    public void refreshAll() {
+        refreshExecutor.execute(this::refreshAllNow);
+    }
+
+    /** 최근 조회된 지역만 다시 계산, idle-timeout 동안 조회가 없던 지역은 제거 */
+    private void refreshAllNow() {
+        Instant idleBefore = Instant.now().minus(idleTimeout);
+        List<String> locationCodes = List.copyOf(lastAccess.keySet());
+        int refreshed = 0;
+        for (String locationCode : locationCodes) {
+            Instant accessedAt = lastAccess.get(locationCode);
+            if (accessedAt == null || accessedAt.isBefore(idleBefore)) {
+                lastAccess.remove(locationCode);
+                entries.remove(locationCode);
+                continue;
+            }
+            try {
+                refresh(locationCode);
+                refreshed++;
+            } catch (Exception e) {
+                // 실패 시 기존 값 유지 (max-age 이후에는 조회 시 ES 폴백)
+                log.error("도시 요약 캐시 갱신 실패 - location: {}", locationCode, e);
+            }
+        }
+        log.info("도시 요약 캐시 갱신 완료 - {} 개 지역", refreshed);
+    }
+
+    /** Kafka 배치 신호가 없을 때를 대비한 주기 갱신 */
+    @Scheduled(fixedDelayString = "${app.citydata.summary-cache.refresh-interval:PT10M}",
+            initialDelayString = "${app.citydata.summary-cache.refresh-interval:PT10M}")
+    public void scheduledRefresh() {
+        if (!lastAccess.isEmpty()) {
+            refreshAll();
+        }
+    }
+
+    private EnvironmentSummaryDto refresh(String locationCode) {
+        EnvironmentSummaryDto summary = environmentQueryService.getRecentSummaryByLocation(locationCode);
+        if (summary == null) {
+            entries.remove(locationCode);
+            return null;
+        }
+        Entry entry = new Entry(summary, Instant.now());
+        entries.put(locationCode, entry);
+        if (redisEnabled) {
+            writeShared(locationCode, entry);
+        }
+        return summary;
+    }
+
+    private boolean isFresh(Entry entry) {
+        return entry.refreshedAt().plus(maxAge).isAfter(Instant.now());
+    }
+
+    private Entry readShared(String locationCode) {
+        try {
+            Object value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + locationCode);
+            if (value instanceof SharedSummary shared && shared.getSummary() != null) {
+                return new Entry(shared.getSummary(), Instant.ofEpochMilli(shared.getRefreshedAtEpochMillis()));
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("도시 요약 Redis 조회 실패 - location: {}", locationCode, e);
+            return null;
+        }
+    }
+
+    private void writeShared(String locationCode, Entry entry) {
+        try {
+            SharedSummary shared = new SharedSummary(entry.summary(), entry.refreshedAt().toEpochMilli());
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + locationCode, shared, maxAge);
+        } catch (Exception e) {
+            log.warn("도시 요약 Redis 저장 실패 - location: {}", locationCode, e);
+        }
+    }
+}
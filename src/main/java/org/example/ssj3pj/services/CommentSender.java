@@ -51,7 +51,7 @@ public class CommentSender {
 
             String url = bridgeBaseUrl + "/api/comments";
 
-            log.info("Sending request to AI: {}", objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(requestDto));
+            log.info("Sending request to AI: purpose={}", purpose);
             ResponseEntity<String> response = restTemplate.postForEntity(url, requestDto, String.class);
             log.info("Response from AI server: {}", response.getBody());
 
@@ -4,6 +4,8 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.dto.reddit.RedditContentDetailDto;
@@ -14,12 +16,14 @@ import org.example.ssj3pj.entity.YoutubeMetadata;
 import org.example.ssj3pj.repository.RedditMetadataRepository;
 import org.example.ssj3pj.repository.UsersRepository;
 import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.CommentIndexService;
 import org.example.ssj3pj.services.ES.RedditQueryService;
 import org.example.ssj3pj.services.ES.YoutubeQueryService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -39,11 +43,22 @@ public class ContentsService {
     private final YoutubeQueryService youtubeQueryService;
     private final RedditQueryService redditQueryService;
     private final CommentSender commentSender;
+    private final CommentIndexService commentIndexService;
     private final ObjectMapper objectMapper;
 
     @Value("${app.es.indices.youtube:youtubedata}")
     private String youtubeIndex;
 
+    /** 본인 스냅샷의 원본 _source 스트림 (본인 문서가 아니거나 ES에 없으면 null) */
+    public InputStream openYoutubeRawSource(String esDocId, List<String> fields, String username) throws IOException {
+        Users user = usersRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        if (!youtubeMetadataRepository.existsByUserAndEsDocId(user, esDocId)) {
+            return null;
+        }
+        return youtubeQueryService.openRawSource(esDocId, fields);
+    }
+
     public JsonNode analyzeComments(String videoId, String username) throws IOException {
         // 1. Find user by username
         Users user = usersRepository.findByUsername(username)
@@ -54,19 +69,23 @@ public class ContentsService {
                 .orElseThrow(() -> new RuntimeException("Youtube metadata not found for user: " + username));
         String esDocId = metadata.getEsDocId();
 
-        // 3. Fetch all comments for the specific video from the ES document
-        JsonNode videoComments = youtubeQueryService.findAllCommentsForVideo(esDocId, videoId);
+        // 3. 댓글 인덱스에서 search_after 페이지 단위로 읽어 요청 본문에 바로 붙인다 (미색인 스냅샷은 스냅샷에서 조회)
+        ArrayNode commentsArray = objectMapper.createArrayNode();
+        commentIndexService.forEachPage(CommentIndexService.YOUTUBE, esDocId, videoId, commentsArray::addAll);
+        JsonNode videoComments;
+        if (!commentsArray.isEmpty()) {
+            videoComments = objectMapper.createObjectNode()
+                    .put("videoId", videoId)
+                    .set("comments", commentsArray);
+        } else {
+            videoComments = youtubeQueryService.findAllCommentsForVideo(esDocId, videoId);
+        }
 
         if (videoComments == null || videoComments.isEmpty()) {
             log.warn("No comments found for videoId: {} in docId: {}. Nothing to analyze.", videoId, esDocId);
             return objectMapper.createObjectNode(); // 빈 JSON 리턴
         }
 
-        // 4. Wrap videoId and comments into youtube node
-        JsonNode youtubeNode = objectMapper.createObjectNode()
-                .put("videoId", videoId)
-                .set("comments", videoComments);
-
         // 5. AI 서버에 요청 → 응답 JsonNode 반환
         return commentSender.sendCommentsToAi(videoComments, "youtube");
     }
@@ -112,8 +131,18 @@ public class ContentsService {
                 .orElseThrow(() -> new RuntimeException("Reddit metadata not found for user: " + username));
         String esDocId = metadata.getEsDocId();
 
-        // 3. Fetch all comments for the specific video from the ES document
-        JsonNode postComments = redditQueryService.findAllCommentsForPost(esDocId, postId);
+        // 3. 댓글 인덱스에서 search_after 페이지 단위로 읽어 요청 본문에 바로 붙인다 (미색인 스냅샷은 스냅샷에서 조회)
+        ArrayNode commentsArray = objectMapper.createArrayNode();
+        commentIndexService.forEachPage(CommentIndexService.REDDIT, esDocId, postId, commentsArray::addAll);
+        JsonNode postComments;
+        if (!commentsArray.isEmpty()) {
+            ObjectNode redditNode = objectMapper.createObjectNode();
+            redditNode.put("postId", postId);
+            redditNode.set("comments", commentsArray);
+            postComments = objectMapper.createObjectNode().set("reddit", redditNode);
+        } else {
+            postComments = redditQueryService.findAllCommentsForPost(esDocId, postId);
+        }
 
         if (postComments == null || postComments.isEmpty()) {
             log.warn("No comments found for postId: {} in docId: {}. Nothing to analyze.", postId, esDocId);
@@ -0,0 +1,262 @@
+package org.example.ssj3pj.services;
+
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.dto.dashboard.DashboardRDDayStats;
+import org.example.ssj3pj.dto.dashboard.DashboardRDTotalStats;
+import org.example.ssj3pj.dto.dashboard.DashboardYTDayStats;
+import org.example.ssj3pj.dto.dashboard.DashboardYTTotalStats;
+import org.example.ssj3pj.entity.DashboardDailyStats;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.User.Users;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.redis.DashboardCacheService;
+import org.example.ssj3pj.repository.DashboardDailyStatsRepository;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.RedditQueryService;
+import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 대시보드 일별 롤업(dashboard_daily_stats) 관리
+ * - 수집 시점: 요약 컬럼이 채워진 메타데이터 행을 (사용자, 플랫폼, 채널, 날짜) 단위로 upsert
+ * - 조회 시점: 기간 인덱스 스캔 한 번 → 날짜별 채널 합계
+ *   롤업에 빠진 날짜만 메타데이터 요약(없으면 ES)으로 채워 응답 (읽기 경로에서는 롤업에 쓰지 않음)
+ * - 기존 데이터는 기동 시 DashboardDailyStatsBackfillConfig 가 롤업으로 옮김
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DashboardDailyStatsService {
+
+    private static final double DEFAULT_UPVOTE_RATIO = 1.0;
+
+    private final DashboardDailyStatsRepository dashboardDailyStatsRepository;
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final YoutubeQueryService youtubeQueryService;
+    private final RedditQueryService redditQueryService;
+    private final RangeFetchService rangeFetchService;
+
+    /* ========================= 수집 시점 upsert ========================= */
+
+    /** 요약이 없는 행은 건너뜀 (false) */
+    public boolean upsertYoutube(YoutubeMetadata metadata) {
+        if (!metadata.hasSummary()) {
+            return false;
+        }
+        dashboardDailyStatsRepository.upsert(metadata.getUser().getId(), DashboardCacheService.YOUTUBE,
+                metadata.getChannelId(), metadata.getIndexedAt().toLocalDate(), metadata.getIndexedAt(),
+                value(metadata.getViewCount()),
+                value(metadata.getLikeCount()),
+                value(metadata.getCommentCount()),
+                value(metadata.getSubscriberCount()),
+                value(metadata.getVideoCount()),
+                0.0);
+        return true;
+    }
+
+    public boolean upsertReddit(RedditMetadata metadata) {
+        if (!metadata.hasSummary()) {
+            return false;
+        }
+        dashboardDailyStatsRepository.upsert(metadata.getUser().getId(), DashboardCacheService.REDDIT,
+                metadata.getChannelId(), metadata.getIndexedAt().toLocalDate(), metadata.getIndexedAt(),
+                0L,
+                value(metadata.getUpvoteCount()),
+                value(metadata.getCommentCount()),
+                0L,
+                value(metadata.getPostCount()),
+                metadata.getUpvoteRatio() != null ? metadata.getUpvoteRatio() : DEFAULT_UPVOTE_RATIO);
+        return true;
+    }
+
+    /* ========================= 대시보드 조회 ========================= */
+
+    /*
+     * 롤업 행을 (날짜, 채널) 단위로 모은 뒤, 롤업에 없거나 롤업보다 새 스냅샷이 있는 (날짜, 채널)만
+     * 메타데이터 요약 컬럼(없으면 ES 스냅샷)으로 바꿔 합산한다 - 같은 날 다른 채널의 롤업 행은 그대로 사용
+     * 읽기 경로에서는 롤업에 쓰지 않음 (쓰기는 수집/기동 백필 경로에서만)
+     */
+
+    /** [start, end] 날짜별 채널 합계 (날짜 오름차순, 스냅샷이 없는 날짜는 빠짐) */
+    public Map<LocalDate, DashboardYTDayStats> youtubeDays(Long userId, LocalDate start, LocalDate end) throws IOException {
+        Map<LocalDate, Map<String, DashboardYTDayStats>> perChannel = new TreeMap<>();
+        Map<LocalDate, Map<String, LocalDateTime>> rolledUpAt = new HashMap<>();
+        for (DashboardDailyStats row : dashboardDailyStatsRepository.findByUser_IdAndPlatformAndDayBetweenOrderByDayAsc(
+                userId, DashboardCacheService.YOUTUBE, start, end)) {
+            perChannel.computeIfAbsent(row.getDay(), day -> new HashMap<>()).put(row.getChannelId(), DashboardYTDayStats.builder()
+                    .date(row.getDay())
+                    .viewCount(row.getViews())
+                    .likeCount(row.getLikes())
+                    .commentCount(row.getComments())
+                    .subscriberCount(row.getSubscribers())
+                    .videoCount(row.getVideoCount())
+                    .build());
+            rolledUpAt.computeIfAbsent(row.getDay(), day -> new HashMap<>()).put(row.getChannelId(), row.getSnapshotAt());
+        }
+
+        Map<Long, YoutubeMetadata> stale = new TreeMap<>();
+        for (YoutubeMetadata metadata : youtubeMetadataRepository.findLatestPerChannelDay(
+                userId, start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            LocalDate day = metadata.getIndexedAt().toLocalDate();
+            if (isStale(rolledUpAt.getOrDefault(day, Map.of()).get(metadata.getChannelId()), metadata.getIndexedAt())) {
+                stale.put(metadata.getId(), metadata);
+            }
+        }
+        if (!stale.isEmpty()) {
+            log.info("일별 롤업 누락 - 메타데이터로 응답: userId={}, youtube {} 건", userId, stale.size());
+            rangeFetchService.fetch("daily-stats-youtube", stale.keySet(),
+                            id -> youtubeStats(stale.get(id), stale.get(id).getIndexedAt().toLocalDate()))
+                    .forEach((id, stats) -> perChannel.computeIfAbsent(stale.get(id).getIndexedAt().toLocalDate(), day -> new HashMap<>())
+                            .put(stale.get(id).getChannelId(), stats));
+        }
+
+        Map<LocalDate, DashboardYTDayStats> perDay = new TreeMap<>();
+        perChannel.forEach((day, channels) -> {
+            DashboardYTDayStats sum = DashboardYTDayStats.builder().date(day).build();
+            for (DashboardYTDayStats stats : channels.values()) {
+                sum.setViewCount(sum.getViewCount() + stats.getViewCount());
+                sum.setLikeCount(sum.getLikeCount() + stats.getLikeCount());
+                sum.setCommentCount(sum.getCommentCount() + stats.getCommentCount());
+                sum.setSubscriberCount(sum.getSubscriberCount() + stats.getSubscriberCount());
+                sum.setVideoCount(sum.getVideoCount() + stats.getVideoCount());
+            }
+            perDay.put(day, sum);
+        });
+        return perDay;
+    }
+
+    /** 가장 최근 날짜의 채널 합계 - latest 는 호출 쪽에서 이미 조회한 최근 스냅샷 (없으면 null), 스냅샷이 하나도 없으면 null */
+    public DashboardYTTotalStats youtubeTotal(Users user, @Nullable YoutubeMetadata latest) throws IOException {
+        LocalDate day = latestDay(dashboardDailyStatsRepository.findLatestStatDay(user.getId(), DashboardCacheService.YOUTUBE),
+                latest != null ? latest.getIndexedAt() : null);
+        DashboardYTDayStats stats = day == null ? null : youtubeDays(user.getId(), day, day).get(day);
+        if (stats == null) {
+            return null;
+        }
+        return DashboardYTTotalStats.builder()
+                .totalVideoCount(stats.getVideoCount())
+                .totalViewCount(stats.getViewCount())
+                .totalLikeCount(stats.getLikeCount())
+                .totalCommentCount(stats.getCommentCount())
+                .build();
+    }
+
+    /** [start, end] 날짜별 통계 - 채널이 여러 개면 합계, upvote 비율은 평균 */
+    public Map<LocalDate, DashboardRDDayStats> redditDays(Long userId, LocalDate start, LocalDate end) throws IOException {
+        Map<LocalDate, Map<String, DashboardRDDayStats>> perChannel = new TreeMap<>();
+        Map<LocalDate, Map<String, LocalDateTime>> rolledUpAt = new HashMap<>();
+        for (DashboardDailyStats row : dashboardDailyStatsRepository.findByUser_IdAndPlatformAndDayBetweenOrderByDayAsc(
+                userId, DashboardCacheService.REDDIT, start, end)) {
+            perChannel.computeIfAbsent(row.getDay(), day -> new HashMap<>()).put(row.getChannelId(), DashboardRDDayStats.builder()
+                    .date(row.getDay())
+                    .postCount(row.getVideoCount())
+                    .upvoteCount(row.getLikes())
+                    .commentCount(row.getComments())
+                    .upvoteRatio(row.getUpvoteRatio())
+                    .build());
+            rolledUpAt.computeIfAbsent(row.getDay(), day -> new HashMap<>()).put(row.getChannelId(), row.getSnapshotAt());
+        }
+
+        Map<Long, RedditMetadata> stale = new TreeMap<>();
+        for (RedditMetadata metadata : redditMetadataRepository.findLatestPerChannelDay(
+                userId, start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            LocalDate day = metadata.getIndexedAt().toLocalDate();
+            if (isStale(rolledUpAt.getOrDefault(day, Map.of()).get(metadata.getChannelId()), metadata.getIndexedAt())) {
+                stale.put(metadata.getId(), metadata);
+            }
+        }
+        if (!stale.isEmpty()) {
+            log.info("일별 롤업 누락 - 메타데이터로 응답: userId={}, reddit {} 건", userId, stale.size());
+            rangeFetchService.fetch("daily-stats-reddit", stale.keySet(),
+                            id -> redditStats(stale.get(id), stale.get(id).getIndexedAt().toLocalDate()))
+                    .forEach((id, stats) -> perChannel.computeIfAbsent(stale.get(id).getIndexedAt().toLocalDate(), day -> new HashMap<>())
+                            .put(stale.get(id).getChannelId(), stats));
+        }
+
+        Map<LocalDate, DashboardRDDayStats> perDay = new TreeMap<>();
+        perChannel.forEach((day, channels) -> {
+            DashboardRDDayStats sum = DashboardRDDayStats.builder().date(day).build();
+            double ratioSum = 0.0;
+            for (DashboardRDDayStats stats : channels.values()) {
+                sum.setPostCount(sum.getPostCount() + stats.getPostCount());
+                sum.setUpvoteCount(sum.getUpvoteCount() + stats.getUpvoteCount());
+                sum.setCommentCount(sum.getCommentCount() + stats.getCommentCount());
+                ratioSum += stats.getUpvoteRatio() != null ? stats.getUpvoteRatio() : DEFAULT_UPVOTE_RATIO;
+            }
+            sum.setUpvoteRatio(ratioSum / channels.size());
+            perDay.put(day, sum);
+        });
+        return perDay;
+    }
+
+    public DashboardRDTotalStats redditTotal(Users user, @Nullable RedditMetadata latest) throws IOException {
+        LocalDate day = latestDay(dashboardDailyStatsRepository.findLatestStatDay(user.getId(), DashboardCacheService.REDDIT),
+                latest != null ? latest.getIndexedAt() : null);
+        DashboardRDDayStats stats = day == null ? null : redditDays(user.getId(), day, day).get(day);
+        if (stats == null) {
+            return null;
+        }
+        return DashboardRDTotalStats.builder()
+                .totalPostCount(stats.getPostCount())
+                .totalUpvoteRatio(stats.getUpvoteRatio())
+                .totalUpvoteCount(stats.getUpvoteCount())
+                .totalCommentCount(stats.getCommentCount())
+                .build();
+    }
+
+    /* ===== 롤업 누락 시 메타데이터 요약 → ES 스냅샷 순으로 채널 하루치 통계 ===== */
+
+    private DashboardYTDayStats youtubeStats(YoutubeMetadata metadata, LocalDate day) throws IOException {
+        if (!metadata.hasSummary()) {
+            return youtubeQueryService.findDayStatForChannel(metadata.getEsDocId(), day);
+        }
+        return DashboardYTDayStats.builder()
+                .date(day)
+                .viewCount(value(metadata.getViewCount()))
+                .likeCount(value(metadata.getLikeCount()))
+                .commentCount(value(metadata.getCommentCount()))
+                .subscriberCount(value(metadata.getSubscriberCount()))
+                .videoCount(value(metadata.getVideoCount()))
+                .build();
+    }
+
+    private DashboardRDDayStats redditStats(RedditMetadata metadata, LocalDate day) throws IOException {
+        if (!metadata.hasSummary()) {
+            return redditQueryService.findDayStatForChannel(metadata.getEsDocId(), day);
+        }
+        return DashboardRDDayStats.builder()
+                .date(day)
+                .postCount(value(metadata.getPostCount()))
+                .upvoteCount(value(metadata.getUpvoteCount()))
+                .commentCount(value(metadata.getCommentCount()))
+                .upvoteRatio(metadata.getUpvoteRatio() != null ? metadata.getUpvoteRatio() : DEFAULT_UPVOTE_RATIO)
+                .build();
+    }
+
+    private static boolean isStale(LocalDateTime rolledUpAt, LocalDateTime snapshotAt) {
+        return rolledUpAt == null || rolledUpAt.isBefore(snapshotAt);
+    }
+
+    /** 롤업의 마지막 날짜와 최근 스냅샷 날짜 중 늦은 쪽 (둘 다 없으면 null) */
+    private static LocalDate latestDay(LocalDate rolledUpDay, LocalDateTime latestSnapshotAt) {
+        LocalDate snapshotDay = latestSnapshotAt != null ? latestSnapshotAt.toLocalDate() : null;
+        if (rolledUpDay == null) return snapshotDay;
+        if (snapshotDay == null) return rolledUpDay;
+        return rolledUpDay.isAfter(snapshotDay) ? rolledUpDay : snapshotDay;
+    }
+
+    private static long value(Long count) {
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.ssj3pj.services;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ssj3pj.redis.DashboardCacheService;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 응답 ETag
+ * - 데이터는 새 스냅샷이 수집될 때만 바뀌므로 사용자의 응답 버전 + 최근 indexedAt + 요청 파라미터로 만든 strong ETag
+ * - 버전은 컨슈머가 메타데이터 저장과 롤업 upsert 를 모두 마친 뒤 evictUser 로 올리는 값이라,
+ *   그 사이에 만든 응답(롤업 반영 전)의 ETag 는 버전이 오르면서 바뀜 (indexedAt 은 Redis 장애 시 대비)
+ * - 컨트롤러에서 WebRequest.checkNotModified(etag) 로 ES/롤업 조회 전에 304 처리 (Redis GET + 인덱스 조회 한 번)
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardEtagService {
+
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final DashboardCacheService dashboardCacheService;
+
+    public String etag(String platform, String username, String endpoint, Object... params) {
+        // 버전을 먼저 읽음 - 수집 중간에 읽혀도 버전이 옛 값이면 이후 ETag 가 반드시 달라짐
+        String version = dashboardCacheService.version(platform, username);
+        LocalDateTime latest = DashboardCacheService.YOUTUBE.equals(platform)
+                ? youtubeMetadataRepository.findLatestIndexedAtByUsername(username)
+                : redditMetadataRepository.findLatestIndexedAtByUsername(username);
+
+        StringBuilder key = new StringBuilder()
+                .append(platform).append('|')
+                .append(username).append('|')
+                .append(endpoint).append('|')
+                .append(version).append('|')
+                .append(latest);
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
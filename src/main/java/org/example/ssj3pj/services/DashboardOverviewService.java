@@ -0,0 +1,137 @@
+package org.example.ssj3pj.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.dto.dashboard.DashboardOverviewDto;
+import org.example.ssj3pj.dto.dashboard.DashboardRDRangeStats;
+import org.example.ssj3pj.dto.dashboard.DashboardRDTotalStats;
+import org.example.ssj3pj.dto.dashboard.DashboardYTRangeStats;
+import org.example.ssj3pj.dto.youtube.Top5VideoListDto;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.User.Users;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.repository.RedditMetadataRepository;
+import org.example.ssj3pj.repository.UsersRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.example.ssj3pj.services.Reddit.DashboardRedditService;
+import org.example.ssj3pj.services.youtube.DashboardYoutubeService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 화면용 통합 조회
+ * - 사용자/플랫폼별 최근 스냅샷은 한 번만 조회해 각 항목에 넘기고, 하위 조회를 동시에 실행
+ * - 각 하위 조회는 같은 기한(app.dashboard.overview.deadline)을 가지며, 실패하거나 넘기면 그 항목만 비우고 응답
+ * - 전용 풀(overviewExecutor)에서 실행 - 풀이 가득 차 거절되면 그 항목을 missing 에 기록, 기한을 넘긴 작업은 인터럽트로 취소
+ */
+@Service
+@Slf4j
+public class DashboardOverviewService {
+
+    private final UsersRepository usersRepository;
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final RedditMetadataRepository redditMetadataRepository;
+    private final DashboardYoutubeService dashboardYoutubeService;
+    private final DashboardRedditService dashboardRedditService;
+    private final YoutubeQueryService youtubeQueryService;
+    private final AsyncTaskExecutor overviewExecutor;
+    private final Duration deadline;
+
+    public DashboardOverviewService(UsersRepository usersRepository,
+                                    YoutubeMetadataRepository youtubeMetadataRepository,
+                                    RedditMetadataRepository redditMetadataRepository,
+                                    DashboardYoutubeService dashboardYoutubeService,
+                                    DashboardRedditService dashboardRedditService,
+                                    YoutubeQueryService youtubeQueryService,
+                                    @Qualifier("overviewExecutor") AsyncTaskExecutor overviewExecutor,
+                                    @Value("${app.dashboard.overview.deadline:3s}") Duration deadline) {
+        this.usersRepository = usersRepository;
+        this.youtubeMetadataRepository = youtubeMetadataRepository;
+        this.redditMetadataRepository = redditMetadataRepository;
+        this.dashboardYoutubeService = dashboardYoutubeService;
+        this.dashboardRedditService = dashboardRedditService;
+        this.youtubeQueryService = youtubeQueryService;
+        this.overviewExecutor = overviewExecutor;
+        this.deadline = deadline;
+    }
+
+    public CompletableFuture<DashboardOverviewDto> overview(String username, LocalDate startDay, LocalDate endDay) {
+        Users user = usersRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found for username: " + username));
+        // 최근 스냅샷은 플랫폼별로 한 번만 조회해 모든 항목에 전달
+        YoutubeMetadata latestYoutube = youtubeMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user).orElse(null);
+        RedditMetadata latestReddit = redditMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user).orElse(null);
+
+        List<String> missing = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<DashboardYTRangeStats> youtubeRange = section("youtube_range", missing,
+                supplyQuery(() -> dashboardYoutubeService.rangeStats(user, latestYoutube, startDay, endDay).join()));
+        CompletableFuture<DashboardRDRangeStats> redditRange = section("reddit_range", missing,
+                supplyQuery(() -> dashboardRedditService.rangeStats(user, latestReddit, startDay, endDay)));
+        CompletableFuture<DashboardRDTotalStats> redditTotal = section("reddit_total", missing,
+                supplyQuery(() -> dashboardRedditService.totalStats(user, latestReddit)));
+        CompletableFuture<Top5VideoListDto> topVideos = section("top_videos", missing,
+                latestYoutube == null
+                        ? CompletableFuture.failedFuture(new RuntimeException("Youtube metadata not found for user: " + user))
+                        : supplyQuery(() -> youtubeQueryService.findTop5VideoByViews(latestYoutube.getEsDocId())));
+
+        return CompletableFuture.allOf(youtubeRange, redditRange, redditTotal, topVideos)
+                .thenApply(done -> DashboardOverviewDto.builder()
+                        .youtubeRange(youtubeRange.join())
+                        .redditRange(redditRange.join())
+                        .redditTotal(redditTotal.join())
+                        .topVideos(topVideos.join())
+                        .missing(List.copyOf(missing))
+                        .build());
+    }
+
+    /** 기한 안에 끝나지 않거나 실패(풀 거절 포함)하면 null 로 완료하고 missing 에 기록 */
+    private <T> CompletableFuture<T> section(String name, List<String> missing, CompletableFuture<T> future) {
+        return future.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("대시보드 통합 조회 항목 누락 - {}: {}", name, e.toString());
+                    missing.add(name);
+                    return null;
+                });
+    }
+
+    @FunctionalInterface
+    private interface IoSupplier<T> {
+        T get() throws IOException;
+    }
+
+    /** 전용 풀에 제출 - 결과 future 가 먼저 예외로 끝나면(기한 초과) 아직 도는 작업을 인터럽트로 취소 */
+    private <T> CompletableFuture<T> supplyQuery(IoSupplier<T> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = overviewExecutor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.whenComplete((value, e) -> {
+            if (e != null) task.cancel(true);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,285 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.config.EsIndexProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 댓글 전용 인덱스
+ * - 스냅샷(videos[].comments / posts[].parsed_comments)에 묻혀 있던 댓글을 (platform, es_doc_id, content_id) 단위로 분리 저장
+ * - 문서는 AI 분석 요청에 그대로 쓰는 형태(comment_id, author, comment, like_count, total_reply_count, published_at)로 정규화
+ * - 색인이 끝나면 같은 채널(channel_id / reddit_username)의 이전 스냅샷 댓글은 삭제 (조회는 최신 스냅샷만 사용)
+ * - 조회는 seq 오름차순 + search_after 커서로 페이지 단위 (채널 크기와 무관하게 한 페이지만 메모리에 올라감)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommentIndexService {
+
+    public static final String YOUTUBE = "youtube";
+    public static final String REDDIT = "reddit";
+
+    private static final int BULK_CHUNK = 1000;
+    private static final SourceProjection COMMENT_FIELDS = SourceProjection.of(
+            "comment_id", "author", "comment", "like_count", "total_reply_count", "published_at");
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final EsSourceReader esSourceReader;
+    private final EsIndexProperties esIndexProperties;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.es.comments.page-size:500}")
+    private int pageSize;
+
+    private volatile boolean indexReady = false;
+
+    /** 한 페이지 결과 - nextCursor 가 null 이면 마지막 페이지 */
+    public record CommentPage(List<JsonNode> comments, List<FieldValue> nextCursor) {
+    }
+
+    /* ========================= 조회 ========================= */
+
+    public CommentPage readPage(String platform, String esDocId, String contentId, List<FieldValue> after) throws IOException {
+        SearchRequest request = SearchRequest.of(s -> {
+            s.index(esIndexProperties.getComments())
+                    .size(pageSize)
+                    .trackTotalHits(t -> t.enabled(false))
+                    .source(COMMENT_FIELDS.toSourceConfig())
+                    .query(q -> q.bool(b -> b
+                            .filter(f -> f.term(t -> t.field("platform").value(platform)))
+                            .filter(f -> f.term(t -> t.field("es_doc_id").value(esDocId)))
+                            .filter(f -> f.term(t -> t.field("content_id").value(contentId)))))
+                    .sort(so -> so.field(fs -> fs.field("seq").order(SortOrder.Asc)));
+            if (after != null) {
+                s.searchAfter(after);
+            }
+            return s;
+        });
+
+        SearchResponse<JsonNode> response;
+        try {
+            response = esSourceReader.search(request);
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                return new CommentPage(List.of(), null);   // 아직 인덱스가 만들어지지 않음
+            }
+            throw e;
+        }
+
+        List<Hit<JsonNode>> hits = response.hits().hits();
+        List<JsonNode> comments = new ArrayList<>(hits.size());
+        for (Hit<JsonNode> hit : hits) {
+            comments.add(hit.source());
+        }
+        List<FieldValue> next = hits.size() < pageSize ? null : hits.get(hits.size() - 1).sort();
+        return new CommentPage(comments, next);
+    }
+
+    /** 모든 페이지를 순서대로 전달 (반환값: 전달한 댓글 수) */
+    public int forEachPage(String platform, String esDocId, String contentId, Consumer<List<JsonNode>> pageConsumer) throws IOException {
+        int total = 0;
+        List<FieldValue> cursor = null;
+        do {
+            CommentPage page = readPage(platform, esDocId, contentId, cursor);
+            if (!page.comments().isEmpty()) {
+                pageConsumer.accept(page.comments());
+                total += page.comments().size();
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return total;
+    }
+
+    /* ========================= 색인 ========================= */
+
+    /** youtubedata 스냅샷의 videos[].comments 를 댓글 인덱스로 분리 */
+    public int indexYoutubeComments(String esDocId, JsonNode snapshot) throws IOException {
+        CommentBulk bulk = new CommentBulk(YOUTUBE, esDocId, snapshot.path("channel_id").asText(null));
+        for (JsonNode videoNode : snapshot.path("videos")) {
+            String videoId = videoNode.path("video_id").asText(null);
+            if (videoId == null) continue;
+            int seq = 0;
+            for (JsonNode commentNode : videoNode.path("comments")) {
+                ObjectNode doc = objectMapper.createObjectNode();
+                doc.put("comment_id", commentNode.path("comment_id").asText());
+                doc.put("author", commentNode.path("author").asText());
+                doc.put("comment", commentNode.path("text").asText());
+                doc.put("like_count", commentNode.path("like_count").asInt());
+                doc.put("total_reply_count", commentNode.path("reply_count").asInt());
+                doc.put("published_at", commentNode.path("published_at").asText());
+                bulk.add(videoId, seq++, doc);
+            }
+        }
+        return bulk.finish();
+    }
+
+    /** redditdata 스냅샷을 ES에서 읽어 댓글 인덱스로 분리 */
+    public int indexRedditComments(String esDocId) throws IOException {
+        JsonNode snapshot = esSourceReader.get("redditdata", esDocId,
+                SourceProjection.of("reddit_username", "posts.id", "posts.parsed_comments"));
+        if (snapshot == null) {
+            log.warn("댓글 인덱스 색인 건너뜀 - 스냅샷 없음: {}", esDocId);
+            return 0;
+        }
+        return indexRedditComments(esDocId, snapshot);
+    }
+
+    /** redditdata 스냅샷의 posts[].parsed_comments 를 댓글 인덱스로 분리 */
+    public int indexRedditComments(String esDocId, JsonNode snapshot) throws IOException {
+        CommentBulk bulk = new CommentBulk(REDDIT, esDocId, snapshot.path("reddit_username").asText(null));
+        for (JsonNode postNode : snapshot.path("posts")) {
+            String postId = postNode.path("id").asText(null);
+            if (postId == null) continue;
+            int seq = 0;
+            for (JsonNode commentNode : postNode.path("parsed_comments")) {
+                long epochSeconds = (long) commentNode.path("created").asDouble();
+                LocalDate date = Instant.ofEpochSecond(epochSeconds)
+                        .atZone(ZoneId.systemDefault())
+                        .toLocalDate();
+
+                ObjectNode doc = objectMapper.createObjectNode();
+                doc.put("comment_id", commentNode.path("id").asText());
+                doc.put("author", commentNode.path("author").asText());
+                doc.put("comment", commentNode.path("body").asText());
+                doc.put("like_count", commentNode.path("score").asInt());
+                doc.put("total_reply_count", commentNode.path("parsed_replies").size());
+                doc.put("published_at", String.valueOf(date));
+                bulk.add(postId, seq++, doc);
+            }
+        }
+        return bulk.finish();
+    }
+
+    /** BULK_CHUNK 단위로 끊어서 보내는 bulk 버퍼 - 끝까지 성공하면 같은 채널의 이전 스냅샷 댓글 삭제 */
+    private class CommentBulk {
+        private final String platform;
+        private final String esDocId;
+        private final String channelId;
+        private BulkRequest.Builder builder = new BulkRequest.Builder();
+        private int pending = 0;
+        private int total = 0;
+
+        CommentBulk(String platform, String esDocId, String channelId) {
+            this.platform = platform;
+            this.esDocId = esDocId;
+            this.channelId = channelId;
+        }
+
+        void add(String contentId, int seq, ObjectNode doc) throws IOException {
+            doc.put("platform", platform);
+            doc.put("es_doc_id", esDocId);
+            doc.put("channel_id", channelId);
+            doc.put("content_id", contentId);
+            doc.put("seq", seq);
+            String id = platform + ":" + esDocId + ":" + contentId + ":" + seq;
+            String index = esIndexProperties.getComments();
+            builder.operations(op -> op.index(i -> i.index(index).id(id).document(doc)));
+            if (++pending >= BULK_CHUNK) {
+                flush();
+            }
+        }
+
+        int finish() throws IOException {
+            flush();
+            if (total > 0) {
+                log.info("댓글 인덱스 색인 완료 - platform: {}, esDocId: {}, {} 건", platform, esDocId, total);
+            }
+            pruneOlderSnapshots(platform, channelId, esDocId);
+            return total;
+        }
+
+        private void flush() throws IOException {
+            if (pending == 0) return;
+            ensureIndex();
+            BulkResponse response = elasticsearchClient.bulk(builder.build());
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() != null) {
+                        log.error("댓글 인덱스 색인 실패 - id: {}, reason: {}", item.id(), item.error().reason());
+                    }
+                }
+                throw new RuntimeException("❌ 댓글 인덱스 bulk 색인 실패: " + esDocId);
+            }
+            total += pending;
+            pending = 0;
+            builder = new BulkRequest.Builder();
+        }
+    }
+
+    /**
+     * 같은 채널의 이전 스냅샷 댓글 삭제 (조회는 항상 최신 esDocId 만 사용)
+     * 실패해도 색인 결과는 유지 - 다음 스냅샷 색인 때 다시 정리된다
+     */
+    private void pruneOlderSnapshots(String platform, String channelId, String esDocId) {
+        if (channelId == null) return;
+        try {
+            ensureIndex();
+            DeleteByQueryResponse response = elasticsearchClient.deleteByQuery(d -> d
+                    .index(esIndexProperties.getComments())
+                    .conflicts(Conflicts.Proceed)
+                    .query(q -> q.bool(b -> b
+                            .filter(f -> f.term(t -> t.field("platform").value(platform)))
+                            .filter(f -> f.term(t -> t.field("channel_id").value(channelId)))
+                            .mustNot(m -> m.term(t -> t.field("es_doc_id").value(esDocId))))));
+            if (response.deleted() != null && response.deleted() > 0) {
+                log.info("이전 스냅샷 댓글 삭제 - platform: {}, channelId: {}, {} 건", platform, channelId, response.deleted());
+            }
+        } catch (Exception e) {
+            log.warn("이전 스냅샷 댓글 삭제 실패 - platform: {}, channelId: {}: {}", platform, channelId, e.getMessage());
+        }
+    }
+
+    private void ensureIndex() throws IOException {
+        if (indexReady) return;
+        String index = esIndexProperties.getComments();
+        boolean exists = elasticsearchClient.indices().exists(e -> e.index(index)).value();
+        if (!exists) {
+            elasticsearchClient.indices().create(c -> c
+                    .index(index)
+                    .mappings(m -> m
+                            .properties("platform", p -> p.keyword(k -> k))
+                            .properties("es_doc_id", p -> p.keyword(k -> k))
+                            .properties("channel_id", p -> p.keyword(k -> k))
+                            .properties("content_id", p -> p.keyword(k -> k))
+                            .properties("comment_id", p -> p.keyword(k -> k))
+                            .properties("seq", p -> p.integer(i -> i))
+                            .properties("comment", p -> p.text(t -> t))));
+            log.info("🔧 댓글 인덱스 생성: {}", index);
+        } else {
+            // channel_id 추가 전에 만들어진 인덱스 - 동적 text 매핑이 잡히기 전에 keyword 로 추가
+            try {
+                elasticsearchClient.indices().putMapping(pm -> pm
+                        .index(index)
+                        .properties("channel_id", p -> p.keyword(k -> k)));
+            } catch (ElasticsearchException e) {
+                log.warn("댓글 인덱스 channel_id 매핑 추가 실패: {}", e.getMessage());
+            }
+        }
+        indexReady = true;
+    }
+}
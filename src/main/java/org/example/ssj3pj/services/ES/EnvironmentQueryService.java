@@ -1,8 +1,6 @@
 package org.example.ssj3pj.services.ES;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.GetRequest;
-import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
@@ -17,6 +15,8 @@ import org.example.ssj3pj.repository.EnvironmentMetadataRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -32,24 +32,28 @@ public class EnvironmentQueryService {
 
     private static final String INDEX = "citydata";
 
-    private final ElasticsearchClient elasticsearchClient;
+    // 최근 1시간 요약: 평균 대상 필드 (날씨 3개 + 인구 비율 9개)
+    private static final String[] RATE_FIELDS = {
+            "MALE_PPLTN_RATE", "FEMALE_PPLTN_RATE",
+            "PPLTN_RATE_10", "PPLTN_RATE_20", "PPLTN_RATE_30", "PPLTN_RATE_40",
+            "PPLTN_RATE_50", "PPLTN_RATE_60", "PPLTN_RATE_70"
+    };
+    private static final int WEATHER_FIELD_COUNT = 3;
+    private static final int AVG_FIELD_COUNT = WEATHER_FIELD_COUNT + RATE_FIELDS.length;
+    private static final int RECENT_SUMMARY_MAX_HITS = 500;   // 기본 size(10)로 잘리지 않도록 명시
+    private static final SourceProjection RECENT_SUMMARY = recentSummaryProjection();
+
+    private final EsSourceReader esSourceReader;
     private final ObjectMapper objectMapper;
     private final EnvironmentMetadataRepository metadataRepository;
 
     public EnvironmentSummaryDto getSummaryByDocId(String esDocId) {
         try {
-            GetRequest request = new GetRequest.Builder()
-                    .index(INDEX)
-                    .id(esDocId)
-                    .build();
-
-            GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-            if (!response.found()) {
+            JsonNode root = esSourceReader.get(INDEX, esDocId);
+            if (root == null) {
                 throw new RuntimeException("❌ ES 문서 없음: " + esDocId);
             }
 
-            JsonNode root = objectMapper.readTree(response.source().toJson().toString());
-
             // citydata / CITYDATA 모두 대응
             JsonNode city = coalesce(root.path("citydata"), root.path("CITYDATA"));
 
@@ -101,18 +105,12 @@ public class EnvironmentQueryService {
         }
     }
 
-    public String getRawSourceByDocId(String esDocId) {
-        try {
-            GetResponse<JsonData> response = elasticsearchClient.get(
-                    new GetRequest.Builder().index(INDEX).id(esDocId).build(),
-                    JsonData.class
-            );
-            if (!response.found()) throw new RuntimeException("❌ ES 문서 없음: " + esDocId);
-            JsonNode root = objectMapper.readTree(response.source().toJson().toString());
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
-        } catch (Exception e) {
-            throw new RuntimeException("❌ ES 원본 조회 실패: " + e.getMessage(), e);
-        }
+    /** 원본 문서 바이트 스트림 (fields 가 있으면 해당 경로만) - 문서가 없으면 null */
+    public InputStream openRawSource(String esDocId, List<String> fields) throws IOException {
+        SourceProjection projection = fields == null || fields.isEmpty()
+                ? SourceProjection.FULL
+                : new SourceProjection(fields, List.of());
+        return esSourceReader.openSource(INDEX, esDocId, projection);
     }
 
     @Transactional
@@ -134,10 +132,15 @@ public class EnvironmentQueryService {
             String nowFormatted = nowKst.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")) + "Z";
             String oneHourAgoFormatted = oneHourAgoKst.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")) + "Z";
 
-            log.info("Querying for location '{}' in time range: gte={}, lte={}", locationCode, oneHourAgoFormatted, nowFormatted);
-
+            // 평균에 필요한 필드만 가져오고, 최신 문서를 첫 번째로 (지역명/혼잡도는 최신 값 사용)
+            // 평균은 ES 집계 대신 자바에서 한 번에 누적 - 템플릿 이전에 만들어진 인덱스의 text 매핑, CITYDATA/UV_INDEX 변형도 그대로 처리
+            // 분할 인덱스여도 alias 전체를 INDEXED_AT 범위로 검색 (범위 밖 분할 인덱스는 can_match 단계에서 제외)
             SearchRequest request = new SearchRequest.Builder()
                     .index(INDEX)
+                    .size(RECENT_SUMMARY_MAX_HITS)
+                    .trackTotalHits(t -> t.enabled(false))
+                    .source(RECENT_SUMMARY.toSourceConfig())
+                    .sort(so -> so.field(f -> f.field("INDEXED_AT").order(SortOrder.Desc)))
                     .query(q -> q.bool(b -> b
                             .filter(f -> f.term(t -> t.field("citydata.AREA_CD.keyword").value(locationCode)))
                             .filter(f -> f.range(r -> r.field("INDEXED_AT")
@@ -147,96 +150,97 @@ public class EnvironmentQueryService {
                     ))
                     .build();
 
-            log.info("ES Search Request: {}", request.toString());
-
-            SearchResponse<JsonData> response = elasticsearchClient.search(request, JsonData.class);
-
-            log.info("ES Search Response - Total Hits: {}", response.hits().total() != null ? response.hits().total().value() : 0);
-            log.info("ES Search Response - Hits Count: {}", response.hits().hits().size());
-
-            List<EnvironmentSummaryDto> results = new ArrayList<>();
-            for (Hit<JsonData> hit : response.hits().hits()) {
-                log.info("Processing ES Hit - ID: {}, Source: {}", hit.id(), hit.source().toJson().toString());
-                try {
-                    JsonNode root = objectMapper.readTree(hit.source().toJson().toString());
-                    JsonNode city = coalesce(root.path("citydata"), root.path("CITYDATA"));
-                    JsonNode ppl = first(coalesce(city.path("LIVE_PPLTN_STTS"), city.path("live_ppltn_stts")));
-                    JsonNode wth = first(coalesce(city.path("WEATHER_STTS"), city.path("weather_stts")));
-
-                    String areaName        = firstText(city, "AREA_NM", ppl, "AREA_NM");
-                    String congestionLevel = text(ppl, "AREA_CONGEST_LVL");
-                    String temperature     = text(wth, "TEMP");
-                    String humidity        = text(wth, "HUMIDITY");
-                    String uvIndex         = firstText(wth, "UV_INDEX_LVL", "UV_INDEX");
-
-                    String maleRate   = text(ppl, "MALE_PPLTN_RATE");
-                    String femaleRate = text(ppl, "FEMALE_PPLTN_RATE");
-                    String teenRate   = text(ppl, "PPLTN_RATE_10");
-                    String twentyRate = text(ppl, "PPLTN_RATE_20");
-                    String thirtyRate = text(ppl, "PPLTN_RATE_30");
-                    String fortyRate  = text(ppl, "PPLTN_RATE_40");
-                    String fiftyRate  = text(ppl, "PPLTN_RATE_50");
-                    String sixtyRate  = text(ppl, "PPLTN_RATE_60");
-                    String seventyRate= text(ppl, "PPLTN_RATE_70");
-
-                    results.add(EnvironmentSummaryDto.builder()
-                            .areaName(areaName)
-                            .congestionLevel(congestionLevel)
-                            .temperature(temperature)
-                            .humidity(humidity)
-                            .uvIndex(uvIndex)
-                            .maleRate(maleRate)
-                            .femaleRate(femaleRate)
-                            .teenRate(teenRate)
-                            .twentyRate(twentyRate)
-                            .thirtyRate(thirtyRate)
-                            .fortyRate(fortyRate)
-                            .fiftyRate(fiftyRate)
-                            .sixtyRate(sixtyRate)
-                            .seventyRate(seventyRate)
-                            .build());
-                    log.info("Successfully parsed ES hit and added to results. Current results size: {}", results.size());
-                } catch (Exception e) {
-                    log.error("Error parsing ES hit {}: {}", hit.id(), e.getMessage(), e);
+            SearchResponse<JsonNode> response = esSourceReader.search(request);
+            List<Hit<JsonNode>> hits = response.hits().hits();
+            log.debug("최근 1시간 요약 조회 - location: {}, range: {} ~ {}, hits: {}",
+                    locationCode, oneHourAgoFormatted, nowFormatted, hits.size());
+
+            // 한 번의 순회로 필드별 합계/개수 누적 (숫자가 아닌 값은 해당 필드에서만 제외)
+            double[] sums = new double[AVG_FIELD_COUNT];
+            int[] counts = new int[AVG_FIELD_COUNT];
+            String areaName = null;
+            String congestionLevel = null;
+            boolean any = false;
+            for (Hit<JsonNode> hit : hits) {
+                JsonNode root = hit.source();
+                if (root == null) continue;
+                JsonNode city = coalesce(root.path("citydata"), root.path("CITYDATA"));
+                JsonNode ppl = first(coalesce(city.path("LIVE_PPLTN_STTS"), city.path("live_ppltn_stts")));
+                JsonNode wth = first(coalesce(city.path("WEATHER_STTS"), city.path("weather_stts")));
+
+                if (!any) {
+                    areaName = firstText(city, "AREA_NM", ppl, "AREA_NM");
+                    congestionLevel = text(ppl, "AREA_CONGEST_LVL");
+                    any = true;
+                }
+                accumulate(sums, counts, 0, text(wth, "TEMP"));
+                accumulate(sums, counts, 1, text(wth, "HUMIDITY"));
+                accumulate(sums, counts, 2, firstText(wth, "UV_INDEX_LVL", "UV_INDEX"));
+                for (int i = 0; i < RATE_FIELDS.length; i++) {
+                    accumulate(sums, counts, WEATHER_FIELD_COUNT + i, text(ppl, RATE_FIELDS[i]));
                 }
             }
 
-            if (results.isEmpty()) {
+            if (!any) {
                 return null;
             }
 
-            double avgTemp = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getTemperature())).average().orElse(0.0);
-            double avgHumidity = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getHumidity())).average().orElse(0.0);
-            double avgUvIndex = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getUvIndex())).average().orElse(0.0);
-            double avgMaleRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getMaleRate())).average().orElse(0.0);
-            double avgFemaleRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getFemaleRate())).average().orElse(0.0);
-            double avgTeenRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getTeenRate())).average().orElse(0.0);
-            double avgTwentyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getTwentyRate())).average().orElse(0.0);
-            double avgThirtyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getThirtyRate())).average().orElse(0.0);
-            double avgFortyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getFortyRate())).average().orElse(0.0);
-            double avgFiftyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getFiftyRate())).average().orElse(0.0);
-            double avgSixtyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getSixtyRate())).average().orElse(0.0);
-            double avgSeventyRate = results.stream().mapToDouble(dto -> Double.parseDouble(dto.getSeventyRate())).average().orElse(0.0);
-
+            int r = WEATHER_FIELD_COUNT;
             return EnvironmentSummaryDto.builder()
-                    .areaName(results.get(0).getAreaName())
-                    .congestionLevel(results.get(0).getCongestionLevel())
-                    .temperature(String.format("%.1f", avgTemp))
-                    .humidity(String.format("%.1f", avgHumidity))
-                    .uvIndex(String.format("%.1f", avgUvIndex))
-                    .maleRate(String.format("%.1f", avgMaleRate))
-                    .femaleRate(String.format("%.1f", avgFemaleRate))
-                    .teenRate(String.format("%.1f", avgTeenRate))
-                    .twentyRate(String.format("%.1f", avgTwentyRate))
-                    .thirtyRate(String.format("%.1f", avgThirtyRate))
-                    .fortyRate(String.format("%.1f", avgFortyRate))
-                    .fiftyRate(String.format("%.1f", avgFiftyRate))
-                    .sixtyRate(String.format("%.1f", avgSixtyRate))
-                    .seventyRate(String.format("%.1f", avgSeventyRate))
+                    .areaName(areaName)
+                    .congestionLevel(congestionLevel)
+                    .temperature(average(sums, counts, 0))
+                    .humidity(average(sums, counts, 1))
+                    .uvIndex(average(sums, counts, 2))
+                    .maleRate(average(sums, counts, r))
+                    .femaleRate(average(sums, counts, r + 1))
+                    .teenRate(average(sums, counts, r + 2))
+                    .twentyRate(average(sums, counts, r + 3))
+                    .thirtyRate(average(sums, counts, r + 4))
+                    .fortyRate(average(sums, counts, r + 5))
+                    .fiftyRate(average(sums, counts, r + 6))
+                    .sixtyRate(average(sums, counts, r + 7))
+                    .seventyRate(average(sums, counts, r + 8))
                     .build();
 
         } catch (Exception e) {
             throw new RuntimeException("❌ ES 조회 또는 파싱 실패: " + e.getMessage(), e);
         }
     }
+
+    private static void accumulate(double[] sums, int[] counts, int field, String value) {
+        if (value == null || value.isBlank()) return;
+        try {
+            sums[field] += Double.parseDouble(value.trim());
+            counts[field]++;
+        } catch (NumberFormatException ignored) {
+            // "보통" 등 숫자가 아닌 값은 평균에서 제외
+        }
+    }
+
+    private static String average(double[] sums, int[] counts, int field) {
+        double avg = counts[field] == 0 ? 0.0 : sums[field] / counts[field];
+        return String.format("%.1f", avg);
+    }
+
+    /** 최근 요약용 _source 경로 (citydata/CITYDATA, 대/소문자 배열명 모두 대응) */
+    private static SourceProjection recentSummaryProjection() {
+        List<String> paths = new ArrayList<>();
+        for (String root : List.of("citydata", "CITYDATA")) {
+            paths.add(root + ".AREA_NM");
+            for (String ppl : List.of("LIVE_PPLTN_STTS", "live_ppltn_stts")) {
+                paths.add(root + "." + ppl + ".AREA_NM");
+                paths.add(root + "." + ppl + ".AREA_CONGEST_LVL");
+                for (String field : RATE_FIELDS) {
+                    paths.add(root + "." + ppl + "." + field);
+                }
+            }
+            for (String wth : List.of("WEATHER_STTS", "weather_stts")) {
+                for (String field : List.of("TEMP", "HUMIDITY", "UV_INDEX_LVL", "UV_INDEX")) {
+                    paths.add(root + "." + wth + "." + field);
+                }
+            }
+        }
+        return new SourceProjection(paths, List.of());
+    }
 }
\ No newline at end of file
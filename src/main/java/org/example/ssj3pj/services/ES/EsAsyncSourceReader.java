@@ -0,0 +1,108 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * EsSourceReader 의 비동기 버전 (ElasticsearchAsyncClient)
+ * - 응답은 ES 클라이언트 I/O 스레드에서 완료되므로, 이어지는 thenApply 단계에서 블로킹 호출을 하지 말 것
+ * - 반환 규칙은 EsSourceReader 와 같음 (문서가 없으면 null, mget 은 찾은 문서만, 분할 인덱스는 ids 검색)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EsAsyncSourceReader {
+
+    private final ElasticsearchAsyncClient elasticsearchAsyncClient;
+    private final EsIndexPartitionService esIndexPartitionService;
+
+    public CompletableFuture<JsonNode> get(String index, String id, SourceProjection projection) {
+        if (esIndexPartitionService.isPartitioned(index)) {
+            return searchByIds(List.of(index), List.of(id), projection)
+                    .thenApply(hits -> hits.isEmpty() ? null : hits.get(0).source());
+        }
+        GetRequest.Builder builder = new GetRequest.Builder()
+                .index(index)
+                .id(id);
+        if (!projection.includes().isEmpty()) {
+            builder.sourceIncludes(projection.includes());
+        }
+        if (!projection.excludes().isEmpty()) {
+            builder.sourceExcludes(projection.excludes());
+        }
+        return elasticsearchAsyncClient.get(builder.build(), JsonNode.class)
+                .thenApply(response -> response.found() ? response.source() : null);
+    }
+
+    public CompletableFuture<Map<String, JsonNode>> mget(String index, Collection<String> ids, SourceProjection projection) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        }
+        if (esIndexPartitionService.isPartitioned(index)) {
+            return searchByIds(List.of(index), ids, projection).thenApply(hits -> {
+                Map<String, JsonNode> result = new LinkedHashMap<>();
+                for (Hit<JsonNode> hit : hits) {
+                    if (hit.source() != null) result.put(hit.id(), hit.source());
+                }
+                return result;
+            });
+        }
+        MgetRequest.Builder builder = new MgetRequest.Builder()
+                .index(index)
+                .ids(List.copyOf(new LinkedHashSet<>(ids)));
+        if (!projection.includes().isEmpty()) {
+            builder.sourceIncludes(projection.includes());
+        }
+        if (!projection.excludes().isEmpty()) {
+            builder.sourceExcludes(projection.excludes());
+        }
+        return elasticsearchAsyncClient.mget(builder.build(), JsonNode.class).thenApply(response -> {
+            Map<String, JsonNode> result = new LinkedHashMap<>();
+            for (MultiGetResponseItem<JsonNode> item : response.docs()) {
+                if (item.isFailure()) {
+                    log.warn("mget 실패 - index: {}, id: {}, reason: {}", index, item.failure().id(), item.failure().error().reason());
+                    continue;
+                }
+                if (item.result().found() && item.result().source() != null) {
+                    result.put(item.result().id(), item.result().source());
+                }
+            }
+            return result;
+        });
+    }
+
+    private CompletableFuture<List<Hit<JsonNode>>> searchByIds(List<String> targets, Collection<String> ids,
+                                                               SourceProjection projection) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        SearchRequest request = new SearchRequest.Builder()
+                .index(targets)
+                .ignoreUnavailable(true)
+                .allowNoIndices(true)
+                .size(distinct.size())
+                .trackTotalHits(t -> t.enabled(false))
+                .source(projection.toSourceConfig())
+                .query(q -> q.ids(i -> i.values(distinct)))
+                .build();
+        return elasticsearchAsyncClient.search(request, JsonNode.class).thenApply(response -> response.hits().hits());
+    }
+
+    public CompletableFuture<SearchResponse<JsonNode>> search(SearchRequest request) {
+        return elasticsearchAsyncClient.search(request, JsonNode.class);
+    }
+}
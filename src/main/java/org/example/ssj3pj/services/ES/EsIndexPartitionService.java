@@ -0,0 +1,135 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.config.EsIndexProperties;
+import org.example.ssj3pj.config.EsIndexProperties.Partition;
+import org.example.ssj3pj.config.EsIndexProperties.Period;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 인덱스 기간 분할 관리
+ * - 분할 인덱스 이름: {alias}-yyyy.MM.dd (KST 기준 기간 시작일)
+ * - alias 는 모든 분할 인덱스를 가리키고, 현재 기간 인덱스만 is_write_index → 외부 적재는 alias 이름 그대로 쓰기
+ * - 읽기는 항상 alias 전체 + 시간 범위 필터 (롤오버가 늦어도 이전 기간 인덱스의 문서를 놓치지 않음, 범위 밖 샤드는 ES can_match 가 건너뜀)
+ * - 보존 기간은 ILM delete phase 로 처리 (삭제된 인덱스는 alias 에서도 빠짐) - 롤오버 때마다 기존 분할 인덱스에도 정책 적용
+ * - 분할하지 않은 인덱스(period=NONE)는 모든 메서드가 기존 단일 인덱스 동작 그대로
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EsIndexPartitionService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final EsIndexProperties esIndexProperties;
+
+    public boolean isPartitioned(String alias) {
+        return period(alias) != Period.NONE;
+    }
+
+    /** day 가 속한 분할 인덱스 이름 */
+    public String partitionName(String alias, LocalDate day) {
+        return alias + "-" + periodStart(alias, day).format(SUFFIX);
+    }
+
+    private Period period(String alias) {
+        Partition partition = esIndexProperties.getPartitions().get(alias);
+        return partition == null ? Period.NONE : partition.getPeriod();
+    }
+
+    private LocalDate periodStart(String alias, LocalDate day) {
+        return period(alias) == Period.WEEKLY
+                ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : day;
+    }
+
+    /* ========================= 롤오버 ========================= */
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.es.partition-rollover-cron:5 0 0 * * *}", zone = "Asia/Seoul")
+    public void rolloverAll() {
+        for (String alias : esIndexProperties.getPartitions().keySet()) {
+            if (!isPartitioned(alias)) continue;
+            try {
+                rollover(alias);
+            } catch (Exception e) {
+                log.error("분할 인덱스 롤오버 실패 - alias: {}", alias, e);
+            }
+        }
+    }
+
+    /** 현재 기간 인덱스를 만들고 쓰기 alias 를 옮김 (이미 옮겨졌으면 변화 없음) */
+    public void rollover(String alias) throws IOException {
+        Partition partition = esIndexProperties.getPartitions().get(alias);
+        String current = partitionName(alias, LocalDate.now(KST));
+
+        boolean aliasExists = elasticsearchClient.indices().existsAlias(a -> a.name(alias)).value();
+        if (!aliasExists && elasticsearchClient.indices().exists(e -> e.index(alias)).value()) {
+            // 같은 이름의 단일 인덱스가 있으면 alias 를 만들 수 없음 → 분할 인덱스로 재색인 후 삭제 필요
+            log.error("분할 불가 - 같은 이름의 단일 인덱스가 존재: {} (분할 인덱스로 재색인 후 삭제 필요)", alias);
+            return;
+        }
+
+        String policy = partition.getRetention() == null ? null : ensureRetentionPolicy(alias, partition.getRetention());
+        if (policy != null && aliasExists) {
+            // 정책 도입 전/보존 기간 변경 전에 만들어진 분할 인덱스도 같은 정책으로 관리
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(alias + "-*")
+                    .settings(s -> s.lifecycle(l -> l.name(policy))));
+        }
+        if (!elasticsearchClient.indices().exists(e -> e.index(current)).value()) {
+            elasticsearchClient.indices().create(c -> {
+                c.index(current);
+                if (policy != null) c.settings(s -> s.lifecycle(l -> l.name(policy)));
+                return c;
+            });
+            log.info("🔧 분할 인덱스 생성: {}", current);
+        }
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(current).alias(alias).isWriteIndex(true))));
+        if (aliasExists) {
+            GetAliasResponse existing = elasticsearchClient.indices().getAlias(a -> a.name(alias));
+            existing.result().forEach((index, aliases) -> {
+                var definition = aliases.aliases().get(alias);
+                if (!index.equals(current) && definition != null && Boolean.TRUE.equals(definition.isWriteIndex())) {
+                    actions.add(Action.of(a -> a.add(add -> add.index(index).alias(alias).isWriteIndex(false))));
+                }
+            });
+        }
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+        log.info("쓰기 alias 갱신 - {} → {}", alias, current);
+    }
+
+    private String ensureRetentionPolicy(String alias, Duration retention) throws IOException {
+        String policy = alias + "-retention";
+        String minAge = retention.toSeconds() + "s";
+        elasticsearchClient.ilm().putLifecycle(l -> l
+                .name(policy)
+                .policy(p -> p.phases(ph -> ph.delete(d -> d
+                        .minAge(t -> t.time(minAge))
+                        .actions(JsonData.of(Map.of("delete", Map.of())))))));
+        return policy;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.ReindexResponse;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 인덱스(youtubedata / redditdata / citydata)의 인덱스 템플릿과 ingest 파이프라인 관리
+ * - 정의는 classpath:es/templates/{name}.json, es/pipelines/{name}-coerce.json
+ * - 숫자/날짜를 색인 시점에 long/double/date 로 고정해 집계가 painless 런타임 필드 대신 doc values 를 쓰게 함
+ * - 템플릿은 새로 만들어지는 인덱스에만 적용되므로 기존 인덱스는 reindex 로 옮겨야 함
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EsIndexTemplateService {
+
+    public static final List<String> SNAPSHOT_INDICES = List.of("youtubedata", "redditdata", "citydata");
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    /** 파이프라인 → 템플릿 순서로 등록 (같은 이름이면 덮어쓰기) */
+    public void installAll() throws IOException {
+        for (String name : SNAPSHOT_INDICES) {
+            String pipelineId = pipelineId(name);
+            try (InputStream json = resource("es/pipelines/" + pipelineId + ".json")) {
+                elasticsearchClient.ingest().putPipeline(p -> p.id(pipelineId).withJson(json));
+            }
+            try (InputStream json = resource("es/templates/" + name + ".json")) {
+                elasticsearchClient.indices().putIndexTemplate(t -> t.name(name).withJson(json));
+            }
+            log.info("🔧 인덱스 템플릿/파이프라인 등록: {} ({})", name, pipelineId);
+        }
+    }
+
+    public static String pipelineId(String name) {
+        return name + "-coerce";
+    }
+
+    /**
+     * source → dest 재색인을 백그라운드 작업으로 시작하고 task id 반환
+     * dest 가 템플릿 패턴에 맞으면 새 매핑과 default_pipeline 이 적용되고, 아니면 파이프라인을 직접 지정
+     */
+    public String startReindex(String source, String dest) throws IOException {
+        String pipeline = SNAPSHOT_INDICES.stream()
+                .filter(name -> dest.equals(name) || dest.startsWith(name + "-"))
+                .findFirst()
+                .map(EsIndexTemplateService::pipelineId)
+                .orElse(null);
+
+        ReindexResponse response = elasticsearchClient.reindex(r -> r
+                .source(s -> s.index(source))
+                .dest(d -> {
+                    d.index(dest);
+                    if (pipeline != null) d.pipeline(pipeline);
+                    return d;
+                })
+                .waitForCompletion(false));
+        log.info("재색인 시작 - {} → {}, task: {}", source, dest, response.task());
+        return response.task();
+    }
+
+    /** 재색인 작업 상태 (완료 여부, 처리 건수, 실패 사유) */
+    public Map<String, Object> taskStatus(String taskId) throws IOException {
+        GetTasksResponse response = elasticsearchClient.tasks().get(t -> t.taskId(taskId));
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("taskId", taskId);
+        status.put("completed", response.completed());
+        status.put("description", response.task().description());
+        if (response.task().status() != null) {
+            status.put("status", response.task().status().toJson().toString());
+        }
+        if (response.error() != null) {
+            status.put("error", response.error().reason());
+        }
+        return status;
+    }
+
+    private static InputStream resource(String path) throws IOException {
+        return new ClassPathResource(path).getInputStream();
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ES 문서 _source 디코딩 공통 헬퍼
+ * 클라이언트의 JacksonJsonpMapper가 응답 스트림을 바로 JsonNode(또는 지정 타입)로 역직렬화하므로
+ * JsonData → String → readTree 로 이어지던 이중 파싱이 발생하지 않는다.
+ * 기간 분할된 인덱스는 alias 로 GET/mget 을 할 수 없으므로 ids 검색으로 대신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EsSourceReader {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final RestClient restClient;
+    private final EsIndexPartitionService esIndexPartitionService;
+
+    /**
+     * _source 원문 바이트 스트림 (GET /{index}/_source/{id}) - JsonNode 트리/문자열을 만들지 않고 그대로 흘려보냄
+     * 문서가 없으면 null, 반환된 스트림은 호출자가 닫는다
+     */
+    public InputStream openSource(String index, String id, SourceProjection projection) throws IOException {
+        if (esIndexPartitionService.isPartitioned(index)) {
+            // _source API 는 단일 인덱스만 받으므로 문서가 있는 분할 인덱스를 먼저 찾음
+            List<Hit<Void>> hits = searchByIds(List.of(index), List.of(id), SourceConfig.of(s -> s.fetch(false)), Void.class);
+            if (hits.isEmpty()) {
+                return null;
+            }
+            index = hits.get(0).index();
+        }
+        String encodedId = URLEncoder.encode(id, StandardCharsets.UTF_8).replace("+", "%20");
+        Request request = new Request("GET", "/" + index + "/_source/" + encodedId);
+        if (!projection.includes().isEmpty()) {
+            request.addParameter("_source_includes", String.join(",", projection.includes()));
+        }
+        if (!projection.excludes().isEmpty()) {
+            request.addParameter("_source_excludes", String.join(",", projection.excludes()));
+        }
+        try {
+            Response response = restClient.performRequest(request);
+            return response.getEntity().getContent();
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /** 단건 조회 - 문서가 없으면 null */
+    public JsonNode get(String index, String id) throws IOException {
+        return get(index, id, SourceProjection.FULL, JsonNode.class);
+    }
+
+    /** 단건 부분 조회 - projection 경로만 _source 에 포함 */
+    public JsonNode get(String index, String id, SourceProjection projection) throws IOException {
+        return get(index, id, projection, JsonNode.class);
+    }
+
+    /** 단건 조회 후 지정 타입으로 바로 역직렬화 - 문서가 없으면 null */
+    public <T> T get(String index, String id, Class<T> type) throws IOException {
+        return get(index, id, SourceProjection.FULL, type);
+    }
+
+    public <T> T get(String index, String id, SourceProjection projection, Class<T> type) throws IOException {
+        if (esIndexPartitionService.isPartitioned(index)) {
+            List<Hit<T>> hits = searchByIds(List.of(index), List.of(id), projection.toSourceConfig(), type);
+            return hits.isEmpty() ? null : hits.get(0).source();
+        }
+        GetRequest.Builder builder = new GetRequest.Builder()
+                .index(index)
+                .id(id);
+        if (!projection.includes().isEmpty()) {
+            builder.sourceIncludes(projection.includes());
+        }
+        if (!projection.excludes().isEmpty()) {
+            builder.sourceExcludes(projection.excludes());
+        }
+        GetRequest request = builder.build();
+
+        GetResponse<T> response = elasticsearchClient.get(request, type);
+        return response.found() ? response.source() : null;
+    }
+
+    /**
+     * 다건 조회 (mget 한 번) - 찾은 문서만 id → _source 로 반환 (요청 순서 유지)
+     * 개별 문서 오류는 로그만 남기고 결과에서 제외한다.
+     */
+    public Map<String, JsonNode> mget(String index, Collection<String> ids, SourceProjection projection) throws IOException {
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        if (esIndexPartitionService.isPartitioned(index)) {
+            for (Hit<JsonNode> hit : searchByIds(List.of(index), ids, projection.toSourceConfig(), JsonNode.class)) {
+                if (hit.source() != null) result.put(hit.id(), hit.source());
+            }
+            return result;
+        }
+        MgetRequest.Builder builder = new MgetRequest.Builder()
+                .index(index)
+                .ids(List.copyOf(new LinkedHashSet<>(ids)));
+        if (!projection.includes().isEmpty()) {
+            builder.sourceIncludes(projection.includes());
+        }
+        if (!projection.excludes().isEmpty()) {
+            builder.sourceExcludes(projection.excludes());
+        }
+
+        MgetResponse<JsonNode> response = elasticsearchClient.mget(builder.build(), JsonNode.class);
+        for (MultiGetResponseItem<JsonNode> item : response.docs()) {
+            if (item.isFailure()) {
+                log.warn("mget 실패 - index: {}, id: {}, reason: {}", index, item.failure().id(), item.failure().error().reason());
+                continue;
+            }
+            if (item.result().found() && item.result().source() != null) {
+                result.put(item.result().id(), item.result().source());
+            }
+        }
+        return result;
+    }
+
+    /** 분할 인덱스용 ids 검색 (없는 분할 인덱스는 무시) */
+    private <T> List<Hit<T>> searchByIds(List<String> targets, Collection<String> ids, SourceConfig source,
+                                         Class<T> type) throws IOException {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        SearchRequest request = new SearchRequest.Builder()
+                .index(targets)
+                .ignoreUnavailable(true)
+                .allowNoIndices(true)
+                .size(distinct.size())
+                .trackTotalHits(t -> t.enabled(false))
+                .source(source)
+                .query(q -> q.ids(i -> i.values(distinct)))
+                .build();
+        return elasticsearchClient.search(request, type).hits().hits();
+    }
+
+    /** 검색 - 각 hit의 _source를 JsonNode로 바로 디코딩 (부분 조회는 요청에 projection.toSourceConfig() 지정) */
+    public SearchResponse<JsonNode> search(SearchRequest request) throws IOException {
+        return elasticsearchClient.search(request, JsonNode.class);
+    }
+}
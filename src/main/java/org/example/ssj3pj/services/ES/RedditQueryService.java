@@ -1,9 +1,5 @@
 package org.example.ssj3pj.services.ES;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.GetRequest;
-import co.elastic.clients.elasticsearch.core.GetResponse;
-import co.elastic.clients.json.JsonData;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -33,30 +29,28 @@ import static org.example.ssj3pj.util.RedditJsonParsers.parseComments;
 @RequiredArgsConstructor
 public class RedditQueryService {
 
-    private final ElasticsearchClient elasticsearchClient;
+    private final EsSourceReader esSourceReader;
     private final ObjectMapper objectMapper;
 
     private static final String INDEX = "redditdata";
 
+    // 단일 목적 조회용 _source 프로젝션 - 게시글 본문/댓글 없이 필요한 경로만 조회
+    static final SourceProjection CHANNEL_INFO = SourceProjection.of("reddit_username");
+    static final SourceProjection POST_STATS = SourceProjection.of(
+            "post_count", "posts.upvote_ratio", "posts.num_comments", "posts.ups");
+    static final SourceProjection POST_COMMENTS = SourceProjection.of("posts.id", "posts.parsed_comments");
+
     // ✅ 공통 유틸 메서드 추가
     private String safeGetVideoUrl(JsonNode postNode) {
         JsonNode urlNode = postNode.path("media").path("reddit_video").path("fallback_url");
         return urlNode.isMissingNode() || urlNode.isNull() ? null : urlNode.asText(null);
     }
     public DashboardRDTotalStats findAllStat(String esDocId) throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        if (!response.found()) {
+        JsonNode source = esSourceReader.get(INDEX, esDocId, POST_STATS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode postsNode = source.path("posts");
         long ups_count = 0;
         double upvote_ratio = 0.0;
@@ -77,19 +71,15 @@ public class RedditQueryService {
     }
 
     public DashboardRDDayStats findDayStatForChannel(String esDocId, LocalDate date) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = esSourceReader.get(INDEX, esDocId, POST_STATS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
+        return toDayStats(source, date);
+    }
 
-        // source를 JsonNode로 파싱
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
+    private DashboardRDDayStats toDayStats(JsonNode source, LocalDate date) {
         JsonNode postsNode = source.path("posts");
         long ups_count = 0;
         double upvote_ratio = 0.0;
@@ -111,36 +101,22 @@ public class RedditQueryService {
                 .build();
     }
     public ChannelInfoDto findChannel(String esDocId) throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
-        String channelTitle = source.path("reddit_username").asText();
-        if (!response.found()) {
+        JsonNode source = esSourceReader.get(INDEX, esDocId, CHANNEL_INFO);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
+        String channelTitle = source.path("reddit_username").asText();
         return ChannelInfoDto.builder()
                 .channelId(channelTitle)
                 .channelTitle(channelTitle)
                 .build();
     }
     public RDUploadRangeDto findAllPostRangeDate(String esDocId, String channelId, LocalDate start, LocalDate end) throws IOException {
-        GetRequest request = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-        if (!response.found()) {
+        JsonNode src = esSourceReader.get(INDEX, esDocId);
+        if (src == null) {
             throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
         }
-
-        JsonNode src = objectMapper.readTree(response.source().toJson().toString());
         JsonNode postsNode = src.path("posts");
         List<RedditContentDetailDto> videoItemList = new ArrayList<>();
         long ups_count = 0;
@@ -205,13 +181,10 @@ public class RedditQueryService {
     }
 
     public PostListDto findAllPostForChannel(String esDocId, String channelId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
+        JsonNode source = esSourceReader.get(INDEX, esDocId);
+        if (source == null) {
+            throw new RuntimeException("❌ ES 문서 없음 (reddit): " + esDocId);
+        }
         JsonNode postsNode = source.path("posts");
 
         List<RedditContentDetailDto> postItemList = new ArrayList<>();
@@ -250,22 +223,18 @@ public class RedditQueryService {
                 .posts(postItemList)
                 .build();
     }
+    /**
+     * 스냅샷에 포함된 게시글 댓글 조회
+     * 댓글 인덱스(CommentIndexService)가 기본 경로이고, 아직 댓글 인덱스에 없는 스냅샷에서만 사용한다.
+     */
     public JsonNode findAllCommentsForPost(String esDocId, String postId) throws IOException {
         log.info("Fetching comments for esDocId: {} and postId: {}", esDocId, postId);
 
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        if (!response.found()) {
+        JsonNode source = esSourceReader.get(INDEX, esDocId, POST_COMMENTS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return objectMapper.createObjectNode();
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode postsNode = source.path("posts");
 
         if (!postsNode.isArray()) {
@@ -276,7 +245,7 @@ public class RedditQueryService {
         for (JsonNode postNode : postsNode) {
             if (postId.equals(postNode.path("id").asText())) {
                 JsonNode commentsNode = postNode.path("parsed_comments");
-                log.info("commentsNode raw: {}", commentsNode.toPrettyString());
+                log.info("comments found: {} 건", commentsNode.size());
 
                 if (commentsNode.isArray()) {
                     ArrayNode commentsArray = objectMapper.createArrayNode();
@@ -315,18 +284,11 @@ public class RedditQueryService {
         return objectMapper.createObjectNode();
     }
     public RedditContentDetailDto findAllDetailForPost(String esDocId, String videoId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = esSourceReader.get(INDEX, esDocId);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode postsNode = source.path("posts");
 
         for (JsonNode postNode : postsNode) {
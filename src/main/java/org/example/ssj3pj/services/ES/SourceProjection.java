@@ -0,0 +1,48 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import co.elastic.clients.elasticsearch.core.search.SourceFilter;
+
+import java.util.List;
+
+/**
+ * ES _source 부분 조회용 프로젝션
+ * - includes: 필요한 경로만 선언 (예: "channel_id", "videos.view_count")
+ * - excludes: 포함 경로 중 제외할 경로 (예: "videos.comments")
+ * - includes/excludes 가 모두 비어 있으면 전체 _source 조회
+ */
+public record SourceProjection(List<String> includes, List<String> excludes) {
+
+    /** 전체 _source */
+    public static final SourceProjection FULL = new SourceProjection(List.of(), List.of());
+
+    public SourceProjection {
+        includes = List.copyOf(includes);
+        excludes = List.copyOf(excludes);
+    }
+
+    public static SourceProjection of(String... includes) {
+        return new SourceProjection(List.of(includes), List.of());
+    }
+
+    public SourceProjection excluding(String... excludes) {
+        return new SourceProjection(includes, List.of(excludes));
+    }
+
+    public boolean isFull() {
+        return includes.isEmpty() && excludes.isEmpty();
+    }
+
+    /** 캐시 키 등에 쓰는 식별 문자열 */
+    public String key() {
+        return String.join(",", includes) + (excludes.isEmpty() ? "" : "!" + String.join(",", excludes));
+    }
+
+    /** 검색 요청용 _source 설정 */
+    public SourceConfig toSourceConfig() {
+        if (isFull()) {
+            return SourceConfig.of(s -> s.fetch(true));
+        }
+        return SourceConfig.of(s -> s.filter(SourceFilter.of(f -> f.includes(includes).excludes(excludes))));
+    }
+}
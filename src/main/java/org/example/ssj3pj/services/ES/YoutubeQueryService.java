@@ -1,13 +1,11 @@
 package org.example.ssj3pj.services.ES;
 import java.util.Collections;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.GetRequest;
-import co.elastic.clients.elasticsearch.core.GetResponse;
-import co.elastic.clients.json.JsonData;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +18,16 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 
 import static org.example.ssj3pj.util.JsonNodeUtils.*;
 
@@ -30,34 +36,167 @@ import static org.example.ssj3pj.util.JsonNodeUtils.*;
 @Slf4j
 public class YoutubeQueryService {
 
-    private final ElasticsearchClient elasticsearchClient;
+    private final EsSourceReader esSourceReader;
+    private final EsAsyncSourceReader esAsyncSourceReader;
     private final ObjectMapper objectMapper;
+    private final Cache<String, JsonNode> youtubeSnapshotCache;
+    private final YoutubeVideoIndexService youtubeVideoIndexService;
 
     private static final String INDEX = "youtubedata";  // YouTube 인덱스명
 
-    public BothUploadDto findDetailForVideo(String esDocId, String videoId) throws IOException{
-        GetRequest request = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
+    // 단일 목적 조회용 _source 프로젝션 - 영상/댓글 배열 전체를 받지 않도록 필요한 경로만 선언
+    static final SourceProjection CHANNEL_INFO = SourceProjection.of("channel_id", "channel_title");
+    static final SourceProjection TOP_VIDEOS = SourceProjection.of("channel_id", "channel_analytics.top_videos_by_views");
+    static final SourceProjection VIDEO_STATS = SourceProjection.of(
+            "channel_stats", "videos.video_id", "videos.view_count", "videos.like_count", "videos.comment_count");
+    static final SourceProjection VIDEO_BRIEF = SourceProjection.of("videos.video_id", "videos.upload_date", "videos.title");
+    static final SourceProjection TRAFFIC_SOURCES = SourceProjection.of("channel_analytics.traffic_source_analytics");
+    static final SourceProjection DEMOGRAPHICS = SourceProjection.of("channel_analytics.demographics");
+    static final SourceProjection VIDEO_COMMENTS = SourceProjection.of("videos.video_id", "videos.comments");
+
+    /**
+     * esDocId 스냅샷 조회 (캐시 우선)
+     * 스냅샷 문서는 색인 이후 변경되지 않으므로 한 번 파싱한 트리를 모든 조회 메서드가 공유한다.
+     * 동시에 같은 문서를 요청하면 ES GET은 한 번만 수행된다. 반환된 트리는 수정하지 말 것.
+     */
+    private JsonNode loadSnapshot(String esDocId) throws IOException {
+        return loadSnapshot(esDocId, SourceProjection.FULL);
+    }
+
+    /**
+     * esDocId 스냅샷 부분 조회 (캐시 우선)
+     * 전체 스냅샷이 이미 캐시에 있으면 그대로 사용하고, 없으면 projection 경로만 GET 해서 "esDocId#경로" 키로 캐시한다.
+     */
+    private JsonNode loadSnapshot(String esDocId, SourceProjection projection) throws IOException {
+        if (!projection.isFull()) {
+            JsonNode full = youtubeSnapshotCache.getIfPresent(esDocId);
+            if (full != null) {
+                return full;
+            }
+        }
+        try {
+            return youtubeSnapshotCache.get(cacheKey(esDocId, projection), key -> fetchSnapshot(esDocId, projection));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** 여러 esDocId 스냅샷 비동기 조회 - 캐시에 없는 것만 비동기 mget 후 캐시에 채움 (찾은 문서만 반환) */
+    private CompletableFuture<Map<String, JsonNode>> loadSnapshotsAsync(Collection<String> esDocIds, SourceProjection projection) {
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String esDocId : esDocIds) {
+            JsonNode cached = projection.isFull() ? null : youtubeSnapshotCache.getIfPresent(esDocId);
+            if (cached == null) {
+                cached = youtubeSnapshotCache.getIfPresent(cacheKey(esDocId, projection));
+            }
+            if (cached != null) {
+                result.put(esDocId, cached);
+            } else {
+                missing.add(esDocId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return esAsyncSourceReader.mget(INDEX, missing, projection).thenApply(loaded -> {
+            loaded.forEach((esDocId, doc) -> {
+                youtubeSnapshotCache.put(cacheKey(esDocId, projection), doc);
+                result.put(esDocId, doc);
+            });
+            return result;
+        });
+    }
+
+    private static String cacheKey(String esDocId, SourceProjection projection) {
+        return projection.isFull() ? esDocId : esDocId + "#" + projection.key();
+    }
+
+    /** ES에서 스냅샷을 JsonNode로 바로 디코딩 (문서가 없으면 null → 캐시에 저장되지 않음) */
+    private JsonNode fetchSnapshot(String esDocId, SourceProjection projection) {
+        try {
+            return esSourceReader.get(INDEX, esDocId, projection);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 단일 영상 노드 조회
+     * 영상 인덱스를 (esDocId, videoId) ID로 바로 GET 하고, 아직 색인되지 않은 스냅샷이면 videos 배열에서 찾는다.
+     * 스냅샷 자체가 없으면 null, 스냅샷에 해당 영상이 없으면 MissingNode 를 반환한다.
+     */
+    private JsonNode findVideoNode(String esDocId, String videoId, SourceProjection fallback) throws IOException {
+        JsonNode video = youtubeVideoIndexService.findVideo(esDocId, videoId);
+        if (video != null) {
+            return video;
+        }
+        JsonNode source = loadSnapshot(esDocId, fallback);
+        if (source == null) {
+            return null;
+        }
+        for (JsonNode videoNode : source.path("videos")) {
+            if (videoId.equals(videoNode.path("video_id").asText())) {
+                return videoNode;
+            }
+        }
+        return MissingNode.getInstance();
+    }
+
+    /**
+     * 여러 영상의 제목/업로드일 일괄 조회 - 영상 인덱스 mget, 미색인 영상이 있을 때만 스냅샷을 이어서 조회
+     * 반환 맵은 videoIds 순서를 따르며 찾지 못한 영상은 title/uploadedAt 이 null 인 DTO.
+     */
+    public CompletableFuture<Map<String, BothUploadDto>> findDetailForVideosAsync(String esDocId, Collection<String> videoIds) {
+        Set<String> wanted = new HashSet<>(videoIds);
+        return youtubeVideoIndexService.findVideosAsync(esDocId, wanted, VIDEO_BRIEF)
+                .thenCompose(found -> {
+                    if (found.size() >= wanted.size()) {
+                        return CompletableFuture.completedFuture(found);
+                    }
+                    return loadSnapshotsAsync(List.of(esDocId), VIDEO_BRIEF).thenApply(snapshots -> {
+                        mergeSnapshotVideos(esDocId, snapshots.get(esDocId), wanted, found);
+                        return found;
+                    });
+                })
+                .thenApply(found -> toBothUploadDtos(videoIds, found));
+    }
 
-        GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-        if (!response.found()) {
+    private void mergeSnapshotVideos(String esDocId, JsonNode src, Set<String> wanted, Map<String, JsonNode> found) {
+        if (src == null) {
             throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
         }
+        for (JsonNode videoNode : src.path("videos")) {
+            String videoId = videoNode.path("video_id").asText();
+            if (wanted.contains(videoId)) {
+                found.putIfAbsent(videoId, videoNode);
+            }
+        }
+    }
 
-        // 2. JsonNode 변환
-        JsonNode src = objectMapper.readTree(response.source().toJson().toString());
+    private Map<String, BothUploadDto> toBothUploadDtos(Collection<String> videoIds, Map<String, JsonNode> found) {
+        Map<String, BothUploadDto> result = new LinkedHashMap<>();
+        for (String videoId : videoIds) {
+            JsonNode videoNode = found.get(videoId);
+            result.put(videoId, BothUploadDto.builder()
+                    .uploadedAt(videoNode == null ? null : videoNode.path("upload_date").asText())
+                    .title(videoNode == null ? null : videoNode.path("title").asText())
+                    .build());
+        }
+        return result;
+    }
+
+    public BothUploadDto findDetailForVideo(String esDocId, String videoId) throws IOException{
+        JsonNode videoNode = findVideoNode(esDocId, videoId, VIDEO_BRIEF);
+        if (videoNode == null) {
+            throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
+        }
 
-        JsonNode videosNode = src.path("videos");
         String uploadedAt = null;
         String title = null;
-        for (JsonNode videoNode : videosNode){
-            if(videoNode.path("video_id").asText().equals(videoId)){
-                uploadedAt = videoNode.path("upload_date").asText();
-                title = videoNode.path("title").asText();
-                break;
-            }
+        if (!videoNode.isMissingNode()) {
+            uploadedAt = videoNode.path("upload_date").asText();
+            title = videoNode.path("title").asText();
         }
         return BothUploadDto.builder()
                 .uploadedAt(uploadedAt)
@@ -65,19 +204,11 @@ public class YoutubeQueryService {
                 .build();
     }
     public YTUploadRangeDto findAllVideoRangeDate(String esDocId, String channelId, LocalDate start, LocalDate end) throws IOException {
-        GetRequest request = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-        if (!response.found()) {
+        JsonNode src = loadSnapshot(esDocId);
+        if (src == null) {
             throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
         }
 
-        // 2. JsonNode 변환
-        JsonNode src = objectMapper.readTree(response.source().toJson().toString());
-
         JsonNode videosNode = src.path("videos");
         List<UploadVideoDetailDto> videoItemList = new ArrayList<>();
         long totalView = 0;
@@ -136,20 +267,12 @@ public class YoutubeQueryService {
     }
     public YoutubeSummaryDto getSummaryByDocId(String esDocId) {
         try {
-            // 1. ES에서 문서 가져오기
-            GetRequest request = new GetRequest.Builder()
-                    .index(INDEX)
-                    .id(esDocId)
-                    .build();
-
-            GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-            if (!response.found()) {
+            // 1. 스냅샷 조회 (캐시 우선)
+            JsonNode src = loadSnapshot(esDocId);
+            if (src == null) {
                 throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
             }
 
-            // 2. JsonNode 변환
-            JsonNode src = objectMapper.readTree(response.source().toJson().toString());
-
             // 3. tags 배열 처리
             String[] tags = null;
             JsonNode tagsNode = src.path("tags");
@@ -189,43 +312,29 @@ public class YoutubeQueryService {
         }
     }
 
-    public String getRawSourceByDocId(String esDocId) {
-        try {
-            GetResponse<JsonData> response = elasticsearchClient.get(
-                    new GetRequest.Builder().index(INDEX).id(esDocId).build(),
-                    JsonData.class
-            );
-            if (!response.found()) throw new RuntimeException("❌ ES 문서 없음: " + esDocId);
-            JsonNode root = objectMapper.readTree(response.source().toJson().toString());
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
-        } catch (Exception e) {
-            throw new RuntimeException("❌ YouTube ES 원본 조회 실패: " + e.getMessage(), e);
-        }
+    /** 원본 스냅샷 바이트 스트림 (fields 가 있으면 해당 경로만) - 문서가 없으면 null */
+    public InputStream openRawSource(String esDocId, List<String> fields) throws IOException {
+        SourceProjection projection = fields == null || fields.isEmpty()
+                ? SourceProjection.FULL
+                : new SourceProjection(fields, List.of());
+        return esSourceReader.openSource(INDEX, esDocId, projection);
     }
 
     public JsonNode getJsonNodeByDocId(String esDocId) throws IOException {
-        GetRequest request = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(request, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
 
-        return objectMapper.readTree(response.source().toJson().toString());
+        // 캐시에 공유된 트리이므로 호출자가 수정해도 안전하도록 복사본 반환
+        return source.deepCopy();
     }
     public VideoListDto findAllVideoForChannel(String esDocId, String channelId, String pageToken) throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
+        JsonNode source = loadSnapshot(esDocId);
+        if (source == null) {
+            throw new RuntimeException("❌ ES 문서 없음 (youtube): " + esDocId);
+        }
         JsonNode videosNode = source.path("videos");
         List<VideoItemDto> videoItemList = new ArrayList<>();
         for (JsonNode videoNode : videosNode) {
@@ -251,39 +360,28 @@ public class YoutubeQueryService {
                 .build();
     }
     public ChannelInfoDto findChannel(String esDocId) throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
-        String channelId = source.path("channel_id").asText();
-        String channelTitle = source.path("channel_title").asText();
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, CHANNEL_INFO);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
+        String channelId = source.path("channel_id").asText();
+        String channelTitle = source.path("channel_title").asText();
         return ChannelInfoDto.builder()
                 .channelId(channelId)
                 .channelTitle(channelTitle)
                 .build();
     }
     public DashboardYTDayStats findDayStatForChannel(String esDocId, LocalDate date) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, VIDEO_STATS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
+        return toDayStats(source, date);
+    }
 
-        // source를 JsonNode로 파싱
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
+    private DashboardYTDayStats toDayStats(JsonNode source, LocalDate date) {
         JsonNode channelStatsNode = source.path("channel_stats");
         JsonNode videosNode = source.path("videos");
         long view_count = 0;
@@ -306,65 +404,42 @@ public class YoutubeQueryService {
     }
 
     public YoutubeContentDetailDto findAllDetailForVideo(String esDocId, String videoId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        if (!response.found()) {
+        JsonNode videoNode = findVideoNode(esDocId, videoId, SourceProjection.FULL);
+        if (videoNode == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
-        JsonNode videosNode = source.path("videos");
-
-        for (JsonNode videoNode : videosNode) {
-            if (videoId.equals(videoNode.path("video_id").asText())) {
-                log.info("videoNode raw: {}", videoNode.toPrettyString());
-
-                // High quality 썸네일이 있으면 사용, 없으면 기본값
-                String thumbnailUrl = null;
-                JsonNode thumbnails = videoNode.path("thumbnails");
-                if (thumbnails.has("high")) {
-                    thumbnailUrl = thumbnails.path("high").path("url").asText(null);
-                } else if (thumbnails.has("default")) {
-                    thumbnailUrl = thumbnails.path("default").path("url").asText(null);
-                }
-
-                // DTO 빌드
-                YoutubeContentDetailDto dto = YoutubeContentDetailDto.builder()
-                        .videoId(videoNode.path("video_id").asText())
-                        .uploadDate(videoNode.path("upload_date").asText(null))
-                        .thumbnailUrl(thumbnailUrl)
-                        .title(videoNode.path("title").asText(null))
-                        .viewCount(videoNode.path("view_count").asInt(0))
-                        .commentCount(videoNode.path("comment_count").asInt(0))
-                        .likeCount(videoNode.path("like_count").asInt(0))
-                        .build();
-
-                return dto;
-            }
+        if (videoNode.isMissingNode()) {
+            return null;
         }
-
-        return null;
+        log.info("videoNode raw: {}", videoNode.toPrettyString());
+
+        // High quality 썸네일이 있으면 사용, 없으면 기본값
+        String thumbnailUrl = null;
+        JsonNode thumbnails = videoNode.path("thumbnails");
+        if (thumbnails.has("high")) {
+            thumbnailUrl = thumbnails.path("high").path("url").asText(null);
+        } else if (thumbnails.has("default")) {
+            thumbnailUrl = thumbnails.path("default").path("url").asText(null);
+        }
+
+        // DTO 빌드
+        return YoutubeContentDetailDto.builder()
+                .videoId(videoNode.path("video_id").asText())
+                .uploadDate(videoNode.path("upload_date").asText(null))
+                .thumbnailUrl(thumbnailUrl)
+                .title(videoNode.path("title").asText(null))
+                .viewCount(videoNode.path("view_count").asInt(0))
+                .commentCount(videoNode.path("comment_count").asInt(0))
+                .likeCount(videoNode.path("like_count").asInt(0))
+                .build();
     }
     public Top5VideoListDto findTop5VideoByViews(String esDocId)throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, TOP_VIDEOS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode videosNode = source.path("channel_analytics").path("top_videos_by_views");
         List<String> videos = new ArrayList<>();
         for (JsonNode videoNode : videosNode){
@@ -376,20 +451,26 @@ public class YoutubeQueryService {
                 .videos(videos)
                 .build();
     }
-    public DashboardYTTotalStats findAllStat(String esDocId) throws IOException{
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
+    /** 스냅샷의 영상별 video_id/조회수/좋아요/댓글 (videos 배열, 문서가 없으면 빈 배열) */
+    public JsonNode findVideoStats(String esDocId) throws IOException {
+        JsonNode source = loadSnapshot(esDocId, VIDEO_STATS);
+        if (source == null) {
+            log.warn("ES document not found for id: {}", esDocId);
+            return objectMapper.createArrayNode();
+        }
+        return source.path("videos");
+    }
 
-        if (!response.found()) {
+    public DashboardYTTotalStats findAllStat(String esDocId) throws IOException{
+        JsonNode source = loadSnapshot(esDocId, VIDEO_STATS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return null;
         }
+        return toTotalStats(source);
+    }
 
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
+    private DashboardYTTotalStats toTotalStats(JsonNode source) {
         JsonNode videosNode = source.path("videos");
         long view_count = 0;
         long comment_count = 0;
@@ -407,57 +488,49 @@ public class YoutubeQueryService {
                 .build();
     }
 
+    /**
+     * 스냅샷에 포함된 영상 댓글 조회
+     * 댓글 인덱스(CommentIndexService)가 기본 경로이고, 아직 댓글 인덱스에 없는 스냅샷에서만 사용한다.
+     */
     public JsonNode findAllCommentsForVideo(String esDocId, String videoId) throws IOException {
         log.info("Fetching comments for esDocId: {} and videoId: {}", esDocId, videoId);
 
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, VIDEO_COMMENTS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return objectMapper.createObjectNode();
         }
 
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
-        JsonNode videosNode = source.path("videos");
-
-        if (!videosNode.isArray()) {
-            log.warn("The 'videos' field is not an array in document id: {}", esDocId);
-            return objectMapper.createObjectNode();
-        }
-
-        for (JsonNode videoNode : videosNode) {
+        JsonNode commentsNode = MissingNode.getInstance();
+        for (JsonNode videoNode : source.path("videos")) {
             if (videoId.equals(videoNode.path("video_id").asText())) {
-                JsonNode commentsNode = videoNode.path("comments");
-                log.info("commentsNode raw: {}", commentsNode.toPrettyString());
-
-                if (commentsNode.isArray()) {
-                    ArrayNode commentsArray = objectMapper.createArrayNode();
-
-                    for (JsonNode commentNode : commentsNode) {
-                        ObjectNode newComment = objectMapper.createObjectNode();
-                        newComment.put("comment_id", commentNode.path("comment_id").asText());
-                        newComment.put("author", commentNode.path("author").asText());
-                        newComment.put("comment", commentNode.path("text").asText()); // ✅ text → comment
-                        newComment.put("like_count", commentNode.path("like_count").asInt());
-                        newComment.put("total_reply_count", commentNode.path("reply_count").asInt());
-                        newComment.put("published_at", commentNode.path("published_at").asText());
-
-                        commentsArray.add(newComment);
-                    }
+                commentsNode = videoNode.path("comments");
+                break;
+            }
+        }
+        if (commentsNode.isArray()) {
+            log.info("comments found: {} 건", commentsNode.size());
 
-                    ObjectNode youtubeNode = objectMapper.createObjectNode();
-                    youtubeNode.put("videoId", videoId);
-                    youtubeNode.set("comments", commentsArray);
+            ArrayNode commentsArray = objectMapper.createArrayNode();
 
+            for (JsonNode commentNode : commentsNode) {
+                ObjectNode newComment = objectMapper.createObjectNode();
+                newComment.put("comment_id", commentNode.path("comment_id").asText());
+                newComment.put("author", commentNode.path("author").asText());
+                newComment.put("comment", commentNode.path("text").asText()); // ✅ text → comment
+                newComment.put("like_count", commentNode.path("like_count").asInt());
+                newComment.put("total_reply_count", commentNode.path("reply_count").asInt());
+                newComment.put("published_at", commentNode.path("published_at").asText());
 
-                    return youtubeNode; // ✅ 원하는 JSON 구조 반환
-                }
+                commentsArray.add(newComment);
             }
+
+            ObjectNode youtubeNode = objectMapper.createObjectNode();
+            youtubeNode.put("videoId", videoId);
+            youtubeNode.set("comments", commentsArray);
+
+
+            return youtubeNode; // ✅ 원하는 JSON 구조 반환
         }
 
         log.warn("No video found with videoId: {} in document id: {}", videoId, esDocId);
@@ -538,50 +611,34 @@ public class YoutubeQueryService {
      * 채널 전체 트래픽 소스를 해당 비디오의 조회수 비율에 맞춰 계산
      */
     public List<TrafficSourceDto> findTrafficSourceByVideoId(String esDocId, String videoId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode videoNode = findVideoNode(esDocId, videoId, VIDEO_STATS);
+        if (videoNode == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return Collections.emptyList();
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         
         // 1. 해당 비디오의 조회수 찾기
-        JsonNode videosNode = source.path("videos");
-        long targetVideoViews = 0;
-        boolean videoFound = false;
-        
-        if (videosNode.isArray()) {
-            for (JsonNode video : videosNode) {
-                if (videoId.equals(video.path("video_id").asText())) {
-                    targetVideoViews = video.path("view_count").asLong(0);
-                    videoFound = true;
-                    log.info("타겟 비디오 찾음: videoId={}, views={}", videoId, targetVideoViews);
-                    break;
-                }
-            }
-        }
-        
-        if (!videoFound) {
+        if (videoNode.isMissingNode()) {
             log.warn("해당 비디오를 찾을 수 없음: videoId={}", videoId);
             return Collections.emptyList();
         }
+        long targetVideoViews = videoNode.path("view_count").asLong(0);
+        log.info("타겟 비디오 찾음: videoId={}, views={}", videoId, targetVideoViews);
         
         if (targetVideoViews == 0) {
             log.warn("비디오 조회수가 0: videoId={}", videoId);
             return Collections.emptyList();
         }
         
-        // 2. 채널 전체 조회수 계산
-        long totalChannelViews = 0;
-        if (videosNode.isArray()) {
-            for (JsonNode video : videosNode) {
-                totalChannelViews += video.path("view_count").asLong(0);
+        // 2. 채널 전체 조회수 계산 (영상 인덱스 문서에는 색인 시 계산한 합계가 들어 있음)
+        long totalChannelViews = videoNode.path("channel_view_count").asLong(-1);
+        if (totalChannelViews < 0) {
+            totalChannelViews = 0;
+            JsonNode statsSource = loadSnapshot(esDocId, VIDEO_STATS);
+            if (statsSource != null) {
+                for (JsonNode video : statsSource.path("videos")) {
+                    totalChannelViews += video.path("view_count").asLong(0);
+                }
             }
         }
         
@@ -596,7 +653,12 @@ public class YoutubeQueryService {
                 videoId, targetVideoViews, totalChannelViews, String.format("%.4f", videoRatio));
         
         // 4. 채널 트래픽 소스 데이터 조회 및 총합 계산
-        JsonNode channelAnalytics = source.path("channel_analytics");
+        JsonNode trafficSource = loadSnapshot(esDocId, TRAFFIC_SOURCES);
+        if (trafficSource == null) {
+            log.warn("ES document not found for id: {}", esDocId);
+            return Collections.emptyList();
+        }
+        JsonNode channelAnalytics = trafficSource.path("channel_analytics");
         JsonNode trafficAnalytics = channelAnalytics.path("traffic_source_analytics");
         
         List<TrafficSourceDto> tempResult = new ArrayList<>();
@@ -669,18 +731,11 @@ public class YoutubeQueryService {
      * 특정 ES 문서에서 demographics 데이터만 조회
      */
     public List<DemographicPoint> getDemographicsFromES(String esDocId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, DEMOGRAPHICS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return Collections.emptyList();
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode channelAnalytics = source.path("channel_analytics");
         JsonNode demographics = channelAnalytics.path("demographics");
         
@@ -703,18 +758,11 @@ public class YoutubeQueryService {
      * 특정 ES 문서에서 트래픽 소스 요약 데이터 조회 (채널 전체)
      */
     public List<TrafficSourceDto> findTrafficSourceSummary(String esDocId) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, TRAFFIC_SOURCES);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return Collections.emptyList();
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode channelAnalytics = source.path("channel_analytics");
         JsonNode trafficAnalytics = channelAnalytics.path("traffic_source_analytics");
         
@@ -742,18 +790,11 @@ public class YoutubeQueryService {
      * 사용자별 일별 인구통계 데이터 조회 (esDocId 기반)
      */
     public List<DailyDemographicsDto> findDailyDemographics(String esDocId, LocalDate startDate, LocalDate endDate) throws IOException {
-        GetRequest getRequest = new GetRequest.Builder()
-                .index(INDEX)
-                .id(esDocId)
-                .build();
-
-        GetResponse<JsonData> response = elasticsearchClient.get(getRequest, JsonData.class);
-        if (!response.found()) {
+        JsonNode source = loadSnapshot(esDocId, DEMOGRAPHICS);
+        if (source == null) {
             log.warn("ES document not found for id: {}", esDocId);
             return Collections.emptyList();
         }
-
-        JsonNode source = objectMapper.readTree(response.source().toJson().toString());
         JsonNode channelAnalytics = source.path("channel_analytics");
         JsonNode demographics = channelAnalytics.path("demographics");
         
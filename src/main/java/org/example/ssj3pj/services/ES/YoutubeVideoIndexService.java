@@ -0,0 +1,173 @@
+package org.example.ssj3pj.services.ES;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.config.EsIndexProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * youtubedata 스냅샷의 영상 단위 보조 인덱스
+ * - 문서 ID: "{esDocId}:{videoId}" → 단일 영상 조회가 videos 배열 선형 탐색 대신 GET 한 번으로 끝난다
+ * - 문서 내용: 원본 video 노드(댓글 제외) + es_doc_id, channel_id, channel_view_count(채널 전체 조회수 합)
+ * - 댓글은 같은 스냅샷에서 CommentIndexService 로 분리 색인
+ * - 색인이 끝나면 같은 채널의 이전 스냅샷 문서는 삭제 (인덱스 크기는 채널별 최신 스냅샷 영상 수로 유지)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class YoutubeVideoIndexService {
+
+    private static final String SNAPSHOT_INDEX = "youtubedata";
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final EsSourceReader esSourceReader;
+    private final EsAsyncSourceReader esAsyncSourceReader;
+    private final EsIndexProperties esIndexProperties;
+    private final CommentIndexService commentIndexService;
+
+    private volatile boolean indexReady = false;
+
+    public static String docId(String esDocId, String videoId) {
+        return esDocId + ":" + videoId;
+    }
+
+    /** 영상 단위 문서 조회 - 아직 색인되지 않았으면 null */
+    public JsonNode findVideo(String esDocId, String videoId) throws IOException {
+        return esSourceReader.get(esIndexProperties.getYoutubeVideos(), docId(esDocId, videoId));
+    }
+
+    /** 영상 단위 문서 다건 조회 (mget 한 번) - videoId → 문서, 색인되지 않은 영상은 빠짐 */
+    public Map<String, JsonNode> findVideos(String esDocId, Collection<String> videoIds, SourceProjection projection) throws IOException {
+        List<String> ids = videoIds.stream().map(videoId -> docId(esDocId, videoId)).toList();
+        Map<String, JsonNode> byVideoId = new LinkedHashMap<>();
+        esSourceReader.mget(esIndexProperties.getYoutubeVideos(), ids, projection)
+                .forEach((id, doc) -> byVideoId.put(id.substring(esDocId.length() + 1), doc));
+        return byVideoId;
+    }
+
+    /** findVideos 비동기 버전 */
+    public CompletableFuture<Map<String, JsonNode>> findVideosAsync(String esDocId, Collection<String> videoIds, SourceProjection projection) {
+        List<String> ids = videoIds.stream().map(videoId -> docId(esDocId, videoId)).toList();
+        return esAsyncSourceReader.mget(esIndexProperties.getYoutubeVideos(), ids, projection).thenApply(docs -> {
+            Map<String, JsonNode> byVideoId = new LinkedHashMap<>();
+            docs.forEach((id, doc) -> byVideoId.put(id.substring(esDocId.length() + 1), doc));
+            return byVideoId;
+        });
+    }
+
+    /** ES에 저장된 스냅샷을 한 번 읽어 영상 단위 문서와 댓글 문서로 색인 (색인한 영상 수 반환) */
+    public int indexSnapshot(String esDocId) throws IOException {
+        JsonNode snapshot = esSourceReader.get(SNAPSHOT_INDEX, esDocId);
+        if (snapshot == null) {
+            log.warn("영상 인덱스 색인 건너뜀 - 스냅샷 없음: {}", esDocId);
+            return 0;
+        }
+        commentIndexService.indexYoutubeComments(esDocId, snapshot);
+        return indexSnapshot(esDocId, snapshot);
+    }
+
+    /** 이미 읽어 둔 스냅샷으로 영상 단위 문서를 bulk 색인 */
+    public int indexSnapshot(String esDocId, JsonNode snapshot) throws IOException {
+        JsonNode videosNode = snapshot.path("videos");
+        if (!videosNode.isArray() || videosNode.isEmpty()) {
+            return 0;
+        }
+        ensureIndex();
+
+        String channelId = snapshot.path("channel_id").asText(null);
+        long channelViewCount = 0;
+        for (JsonNode videoNode : videosNode) {
+            channelViewCount += videoNode.path("view_count").asLong(0);
+        }
+
+        String index = esIndexProperties.getYoutubeVideos();
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        int count = 0;
+        for (JsonNode videoNode : videosNode) {
+            String videoId = videoNode.path("video_id").asText(null);
+            if (videoId == null || !videoNode.isObject()) continue;
+
+            ObjectNode doc = ((ObjectNode) videoNode).deepCopy();
+            doc.remove("comments");
+            doc.put("es_doc_id", esDocId);
+            doc.put("channel_id", channelId);
+            doc.put("channel_view_count", channelViewCount);
+
+            bulk.operations(op -> op.index(i -> i.index(index).id(docId(esDocId, videoId)).document(doc)));
+            count++;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(bulk.build());
+        if (response.errors()) {
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    log.error("영상 인덱스 색인 실패 - id: {}, reason: {}", item.id(), item.error().reason());
+                }
+            }
+            throw new RuntimeException("❌ 영상 인덱스 bulk 색인 실패: " + esDocId);
+        }
+        log.info("영상 인덱스 색인 완료 - esDocId: {}, {} 건", esDocId, count);
+        pruneOlderSnapshots(channelId, esDocId);
+        return count;
+    }
+
+    /**
+     * 같은 채널의 이전 스냅샷 영상 문서 삭제 (조회는 항상 최신 esDocId 만 사용)
+     * 실패해도 색인 결과는 유지 - 다음 스냅샷 색인 때 다시 정리된다
+     */
+    private void pruneOlderSnapshots(String channelId, String esDocId) {
+        if (channelId == null) return;
+        try {
+            DeleteByQueryResponse response = elasticsearchClient.deleteByQuery(d -> d
+                    .index(esIndexProperties.getYoutubeVideos())
+                    .conflicts(Conflicts.Proceed)
+                    .query(q -> q.bool(b -> b
+                            .filter(f -> f.term(t -> t.field("channel_id").value(channelId)))
+                            .mustNot(m -> m.term(t -> t.field("es_doc_id").value(esDocId))))));
+            if (response.deleted() != null && response.deleted() > 0) {
+                log.info("이전 스냅샷 영상 문서 삭제 - channelId: {}, {} 건", channelId, response.deleted());
+            }
+        } catch (Exception e) {
+            log.warn("이전 스냅샷 영상 문서 삭제 실패 - channelId: {}: {}", channelId, e.getMessage());
+        }
+    }
+
+    /** 인덱스가 없으면 키 필드는 keyword, 카운트 필드는 long 으로 잡아 생성 */
+    private void ensureIndex() throws IOException {
+        if (indexReady) return;
+        String index = esIndexProperties.getYoutubeVideos();
+        boolean exists = elasticsearchClient.indices().exists(e -> e.index(index)).value();
+        if (!exists) {
+            elasticsearchClient.indices().create(c -> c
+                    .index(index)
+                    .mappings(m -> m
+                            .properties("es_doc_id", p -> p.keyword(k -> k))
+                            .properties("video_id", p -> p.keyword(k -> k))
+                            .properties("channel_id", p -> p.keyword(k -> k))
+                            .properties("view_count", p -> p.long_(l -> l.ignoreMalformed(true)))
+                            .properties("like_count", p -> p.long_(l -> l.ignoreMalformed(true)))
+                            .properties("comment_count", p -> p.long_(l -> l.ignoreMalformed(true)))
+                            .properties("channel_view_count", p -> p.long_(l -> l))));
+            log.info("🔧 영상 인덱스 생성: {}", index);
+        }
+        indexReady = true;
+    }
+}
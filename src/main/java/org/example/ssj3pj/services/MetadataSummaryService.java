@@ -0,0 +1,55 @@
+package org.example.ssj3pj.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.dto.dashboard.DashboardRDDayStats;
+import org.example.ssj3pj.dto.dashboard.DashboardYTDayStats;
+import org.example.ssj3pj.entity.RedditMetadata;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.services.ES.RedditQueryService;
+import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * 메타데이터 요약 컬럼 관리
+ * - 수집 시점(Kafka 컨슈머/백필)에 스냅샷 합계를 한 번 계산해 es_*_metadata 행에 저장
+ * - 대시보드는 이 요약으로 만든 일별 롤업(DashboardDailyStatsService)으로 응답
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MetadataSummaryService {
+
+    private final YoutubeQueryService youtubeQueryService;
+    private final RedditQueryService redditQueryService;
+
+    /* ========================= 수집 시점 계산 ========================= */
+
+    /** ES 스냅샷 합계를 요약 컬럼에 채움 (문서가 없으면 false) */
+    public boolean fillYoutube(YoutubeMetadata metadata) throws IOException {
+        DashboardYTDayStats stats = youtubeQueryService.findDayStatForChannel(metadata.getEsDocId(), null);
+        if (stats == null) {
+            return false;
+        }
+        metadata.setViewCount(stats.getViewCount());
+        metadata.setLikeCount(stats.getLikeCount());
+        metadata.setCommentCount(stats.getCommentCount());
+        metadata.setSubscriberCount(stats.getSubscriberCount());
+        metadata.setVideoCount(stats.getVideoCount());
+        return true;
+    }
+
+    public boolean fillReddit(RedditMetadata metadata) throws IOException {
+        DashboardRDDayStats stats = redditQueryService.findDayStatForChannel(metadata.getEsDocId(), null);
+        if (stats == null) {
+            return false;
+        }
+        metadata.setPostCount(stats.getPostCount());
+        metadata.setUpvoteCount(stats.getUpvoteCount());
+        metadata.setCommentCount(stats.getCommentCount());
+        metadata.setUpvoteRatio(stats.getUpvoteRatio());
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.ssj3pj.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기간 조회의 키(날짜 등)별 블로킹 조회를 제한된 동시성으로 실행
+ * - 요청당 워커 수를 max-concurrency 로 제한 (워커가 공용 큐에서 키를 꺼내 처리)
+ * - 전체 기한(deadline)을 넘기면 남은 키는 버리고 실패 처리
+ * - 결과는 키 순서(날짜 오름차순)로 재조립, null 결과는 빠짐
+ * - range.fetch.duration{name, mode=serial|parallel} 히스토그램으로 직렬/병렬 지연 비교
+ */
+@Service
+@Slf4j
+public class RangeFetchService {
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final boolean parallel;
+    private final int maxConcurrency;
+    private final Duration deadline;
+
+    public RangeFetchService(@Qualifier("rangeFetchExecutor") Executor executor,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.async.range-fetch.parallel:true}") boolean parallel,
+                             @Value("${app.async.range-fetch.max-concurrency:8}") int maxConcurrency,
+                             @Value("${app.async.range-fetch.deadline:10s}") Duration deadline) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.parallel = parallel;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.deadline = deadline;
+    }
+
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws IOException;
+    }
+
+    public <K extends Comparable<? super K>, V> SortedMap<K, V> fetch(String name, Collection<K> keys, Loader<K, V> loader) throws IOException {
+        boolean concurrent = parallel && keys.size() > 1;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return concurrent ? fetchParallel(name, keys, loader) : fetchSerial(keys, loader);
+        } finally {
+            sample.stop(Timer.builder("range.fetch.duration")
+                    .description("기간 조회 키별 조회 전체 소요 시간")
+                    .tag("name", name)
+                    .tag("mode", concurrent ? "parallel" : "serial")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static <K extends Comparable<? super K>, V> SortedMap<K, V> fetchSerial(Collection<K> keys, Loader<K, V> loader) throws IOException {
+        SortedMap<K, V> result = new TreeMap<>();
+        for (K key : keys) {
+            V value = loader.load(key);
+            if (value != null) result.put(key, value);
+        }
+        return result;
+    }
+
+    private <K extends Comparable<? super K>, V> SortedMap<K, V> fetchParallel(String name, Collection<K> keys, Loader<K, V> loader) throws IOException {
+        ConcurrentLinkedQueue<K> pending = new ConcurrentLinkedQueue<>(keys);
+        Map<K, V> loaded = new ConcurrentHashMap<>();
+
+        int workers = Math.min(maxConcurrency, keys.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                K key;
+                while ((key = pending.poll()) != null) {
+                    try {
+                        V value = loader.load(key);
+                        if (value != null) loaded.put(key, value);
+                    } catch (IOException e) {
+                        pending.clear();
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pending.clear();   // 진행 중인 조회만 마저 끝나고 나머지는 시작하지 않음
+            log.warn("기간 조회 기한 초과 - name: {}, 키 {} 개 중 {} 개 완료, deadline: {}",
+                    name, keys.size(), loaded.size(), deadline);
+            throw new RuntimeException("⏱️ 기간 조회 기한 초과: " + name);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) throw io.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new RuntimeException("❌ 기간 조회 실패: " + name, cause);
+        } catch (InterruptedException e) {
+            pending.clear();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("기간 조회 중단: " + name, e);
+        }
+        return new TreeMap<>(loaded);
+    }
+}
@@ -5,16 +5,17 @@ import lombok.RequiredArgsConstructor;
 import org.example.ssj3pj.dto.dashboard.*;
 import org.example.ssj3pj.entity.RedditMetadata;
 import org.example.ssj3pj.entity.User.Users;
+import org.example.ssj3pj.redis.DashboardCacheService;
 import org.example.ssj3pj.repository.RedditMetadataRepository;
 import org.example.ssj3pj.repository.UsersRepository;
-import org.example.ssj3pj.services.ES.RedditQueryService;
+import org.example.ssj3pj.services.DashboardDailyStatsService;
+import org.example.ssj3pj.util.DailySeries;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,106 +23,89 @@ public class DashboardRedditService {
 
     private final UsersRepository usersRepository;
     private final RedditMetadataRepository redditMetadataRepository;
-    private final RedditQueryService redditQueryService;
+    private final DashboardDailyStatsService dashboardDailyStatsService;
+    private final DashboardCacheService dashboardCacheService;
 
-    /* ① 단일 날짜 통계 - 스크립트/런타임 없이 자바에서 reduce */
+    /* ① 기간 통계 - 일별 롤업(dashboard_daily_stats) 기간 읽기 + 빈 날짜 채움 (새 스냅샷이 들어오기 전까지 캐시) */
     public DashboardRDRangeStats rangeStats(LocalDate startDay,
                                             LocalDate endDay,
                                             @Nullable String region,
                                             @Nullable String channelId,
                                             String username) throws IOException {
-        Users user = usersRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found for username: " + username));
-
-        List<DashboardRDDayStats> daily = new ArrayList<>();
-        DashboardRDDayStats lastAvailableStats = null;
-
-        // startDay부터 endDay까지 순회
-        for (LocalDate day = startDay; !day.isAfter(endDay); day = day.plusDays(1)) {
-            LocalDateTime start = day.atStartOfDay();
-            LocalDateTime end = day.plusDays(1).atStartOfDay();
+        return dashboardCacheService.getOrCompute(DashboardCacheService.REDDIT, username, "range",
+                startDay + ":" + endDay + ":" + region + ":" + channelId, DashboardRDRangeStats.class,
+                () -> computeRangeStats(startDay, endDay, findUser(username)));
+    }
 
-            RedditMetadata metadata = redditMetadataRepository
-                    .findFirstByUserAndIndexedAtBetweenOrderByIndexedAtDesc(user, start, end)
-                    .orElse(null);
+    /** 이미 조회한 사용자/최근 스냅샷(없으면 null)으로 기간 통계 (region/channel 필터 없음, 캐시는 같은 키를 공유) */
+    public DashboardRDRangeStats rangeStats(Users user, @Nullable RedditMetadata latest,
+                                            LocalDate startDay, LocalDate endDay) throws IOException {
+        return dashboardCacheService.getOrCompute(DashboardCacheService.REDDIT, user.getUsername(), "range",
+                startDay + ":" + endDay + ":null:null", DashboardRDRangeStats.class,
+                () -> computeRangeStats(startDay, endDay, user, latest));
+    }
 
-            DashboardRDDayStats dayStats;
-            if (metadata != null) {
-                // 해당 날짜 데이터가 있으면 그대로 가져오기
-                dayStats = redditQueryService.findDayStatForChannel(metadata.getEsDocId(), day);
-                lastAvailableStats = dayStats; // 마지막 사용 가능한 데이터 저장
-            } else {
-                if (lastAvailableStats != null) {
-                    // 이전 날짜 데이터가 있으면 그것을 재사용
-                    dayStats = DashboardRDDayStats.builder()
-                            .date(day)
-                            .upvoteCount(lastAvailableStats.getUpvoteCount())
-                            .commentCount(lastAvailableStats.getCommentCount())
-                            .postCount(lastAvailableStats.getPostCount())
-                            .upvoteRatio(lastAvailableStats.getUpvoteRatio())
-                            .build();
-                } else {
-                    // 시작 날짜에 데이터가 없으면 다음 있는 날짜 데이터로 채워야 함
-                    // 임시로 null 추가, 이후 채워질 예정
-                    dayStats = null;
-                }
-            }
-            daily.add(dayStats);
-        }
+    private DashboardRDRangeStats computeRangeStats(LocalDate startDay, LocalDate endDay, Users user) throws IOException {
+        return computeRangeStats(startDay, endDay, user, latestOf(user));
+    }
 
-        // 시작날짜가 null인 경우, 첫 번째 null을 찾고 뒤에서 채우기
-        for (int i = 0; i < daily.size(); i++) {
-            if (daily.get(i) == null) {
-                // i번째 이후에서 첫 번째 null이 아닌 데이터 찾기
-                DashboardRDDayStats nextAvailable = null;
-                for (int j = i + 1; j < daily.size(); j++) {
-                    if (daily.get(j) != null) {
-                        nextAvailable = daily.get(j);
-                        break;
-                    }
-                }
-                if (nextAvailable != null) {
-                    // null이면 뒤의 데이터로 채움
-                    daily.set(i, DashboardRDDayStats.builder()
-                            .date(startDay.plusDays(i))
-                            .upvoteCount(nextAvailable.getUpvoteCount())
-                            .commentCount(nextAvailable.getCommentCount())
-                            .postCount(nextAvailable.getPostCount())
-                            .upvoteRatio(nextAvailable.getUpvoteRatio())
-                            .build());
-                } else {
-                    // 전체가 null인 경우 0으로 초기화
-                    daily.set(i, DashboardRDDayStats.builder()
-                            .date(startDay.plusDays(i))
-                            .upvoteCount(0)
-                            .commentCount(0)
-                            .postCount(0)
-                            .upvoteRatio(1.0)
-                            .build());
-                }
-            }
-        }
+    private DashboardRDRangeStats computeRangeStats(LocalDate startDay, LocalDate endDay, Users user,
+                                                    @Nullable RedditMetadata latest) throws IOException {
+        // 일별 롤업 기간 스캔 한 번 (롤업에 빠진 날짜만 메타데이터/ES)
+        Map<LocalDate, DashboardRDDayStats> statsPerDay = dashboardDailyStatsService.redditDays(user.getId(), startDay, endDay);
 
-        // 전체 stats는 기존 로직
-        RedditMetadata metadata = redditMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user)
-                .orElseThrow(() -> new RuntimeException("Reddit metadata not found for user: " + user));
-        String esDocId = metadata.getEsDocId();
-        DashboardRDTotalStats dashboardTotalStats = redditQueryService.findAllStat(esDocId);
+        // 빈 날짜는 이전 값, 앞쪽 빈 날짜는 다음 값, 전부 없으면 0 (비율은 1.0)
+        List<DashboardRDDayStats> daily = DailySeries.fill(startDay, endDay, statsPerDay,
+                (stats, day) -> DashboardRDDayStats.builder()
+                        .date(day)
+                        .upvoteCount(stats.getUpvoteCount())
+                        .commentCount(stats.getCommentCount())
+                        .postCount(stats.getPostCount())
+                        .upvoteRatio(stats.getUpvoteRatio())
+                        .build(),
+                day -> DashboardRDDayStats.builder()
+                        .date(day)
+                        .upvoteCount(0)
+                        .commentCount(0)
+                        .postCount(0)
+                        .upvoteRatio(1.0)
+                        .build());
 
         return DashboardRDRangeStats.builder()
-                .total(dashboardTotalStats)
+                .total(redditTotal(user, latest))
                 .daily(daily)
                 .build();
     }
     /* ③ 전체 누적 */
     public DashboardRDTotalStats totalStats(String username, String region, String channelId) throws IOException {
-        Users user = usersRepository.findByUsername(username)
+        return dashboardCacheService.getOrCompute(DashboardCacheService.REDDIT, username, "total",
+                region + ":" + channelId, DashboardRDTotalStats.class,
+                () -> {
+                    Users user = findUser(username);
+                    return redditTotal(user, latestOf(user));
+                });
+    }
+
+    public DashboardRDTotalStats totalStats(Users user, @Nullable RedditMetadata latest) throws IOException {
+        return dashboardCacheService.getOrCompute(DashboardCacheService.REDDIT, user.getUsername(), "total",
+                "null:null", DashboardRDTotalStats.class,
+                () -> redditTotal(user, latest));
+    }
+
+    private Users findUser(String username) {
+        return usersRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found for username: " + username));
-        RedditMetadata metadata = redditMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user)
-                .orElseThrow(() -> new RuntimeException("Youtube metadata not found for user: " + user));
-        String esDocId = metadata.getEsDocId();
-        DashboardRDTotalStats dashboardTotalStats = redditQueryService.findAllStat(esDocId);
+    }
+
+    private RedditMetadata latestOf(Users user) {
+        return redditMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user).orElse(null);
+    }
 
-        return dashboardTotalStats;
+    private DashboardRDTotalStats redditTotal(Users user, @Nullable RedditMetadata latest) throws IOException {
+        DashboardRDTotalStats total = dashboardDailyStatsService.redditTotal(user, latest);
+        if (total == null) {
+            throw new RuntimeException("Reddit metadata not found for user: " + user);
+        }
+        return total;
     }
 }
@@ -1,6 +1,7 @@
 package org.example.ssj3pj.services;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -15,6 +16,7 @@ import org.example.ssj3pj.entity.JobResult;
 import org.example.ssj3pj.entity.Prompt;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.redis.VideoLeaderboardService;
 import org.example.ssj3pj.repository.*;
 import org.example.ssj3pj.services.ES.EnvironmentQueryService;
 import org.example.ssj3pj.services.ES.YoutubeQueryService;
@@ -44,6 +46,7 @@ public class VideoPromptSender {
     private final YoutubeQueryService youtubeQueryService;
     private final UsersRepository usersRepository;
     private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final VideoLeaderboardService videoLeaderboardService;
 
     /**
      * ES 문서 ID로 조회한 환경 요약 정보를 브릿지(FastAPI)로 전송
@@ -94,15 +97,21 @@ public class VideoPromptSender {
                     .action(previousPrompt.getAction())
                     .build();
 
-            // Youtube Top5 조회 → 샘플 프롬프트 추출
-            Users user = usersRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalStateException("사용자 없음"));
-            YoutubeMetadata metadata = youtubeMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user)
-                    .orElseThrow(() -> new RuntimeException("Youtube metadata not found for user: " + user));
-            String esDocId = metadata.getEsDocId();
-            Top5VideoListDto top5VideoListDto = youtubeQueryService.findTop5VideoByViews(esDocId);
+            // Youtube 조회수 Top5 (리더보드) → 샘플 프롬프트 추출
+            List<String> topVideos = videoLeaderboardService.top(userId, VideoLeaderboardService.Metric.VIEWS, 5).stream()
+                    .map(VideoLeaderboardService.Entry::videoId)
+                    .toList();
+            if (topVideos.isEmpty()) {
+                // 리더보드가 아직 없으면 최신 스냅샷의 top_videos_by_views 사용
+                Users user = usersRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalStateException("사용자 없음"));
+                YoutubeMetadata metadata = youtubeMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user)
+                        .orElseThrow(() -> new RuntimeException("Youtube metadata not found for user: " + user));
+                Top5VideoListDto top5VideoListDto = youtubeQueryService.findTop5VideoByViews(metadata.getEsDocId());
+                topVideos = top5VideoListDto != null ? top5VideoListDto.getVideos() : List.of();
+            }
 
-            for (String video : top5VideoListDto.getVideos()) {
+            for (String video : topVideos) {
                 JobResult refResult = jobResultRepository.findByResultKey(video);
                 if (refResult == null) continue;
 
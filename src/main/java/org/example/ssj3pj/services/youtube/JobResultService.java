@@ -20,12 +20,18 @@ import org.example.ssj3pj.repository.YoutubeMetadataRepository;
 import org.example.ssj3pj.services.ContentsService;
 import org.example.ssj3pj.services.ES.RedditQueryService;
 import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +44,8 @@ public class JobResultService {
     private final JobRepository jobRepository;
     private final YoutubeQueryService youtubeQueryService;
     private final ContentsService contentsService;
+    @Qualifier("queryExecutor")
+    private final Executor queryExecutor;
 
     public List<JobResultDto> getUserJobResults(Long userId) {
         return jobResultRepository.findAllByUserId(userId).stream()
@@ -63,21 +71,41 @@ public class JobResultService {
         }
         return resultDtos;
     }
-    public List<BothUploadDto> getResultIdsUploadedToBoth(Long userId) throws IOException{
+    /** JobResult/메타데이터는 PG에서 동기로 읽고, 영상 정보 mget 만 비동기로 기다린다 */
+    public CompletableFuture<List<BothUploadDto>> getResultIdsUploadedToBoth(Long userId) {
         List<Long> jobResultIds = jobResultRepository.findResultIdsUploadedToBoth(userId);
-        List<BothUploadDto> bothUploadDtos = new ArrayList<>();
-
         Users user = usersRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found for userid: " + userId));
         YoutubeMetadata metadata = youtubeMetadataRepository.findFirstByUserOrderByIndexedAtDesc(user)
                 .orElseThrow(() -> new RuntimeException("Youtube metadata not found for user: " + userId));
         String esDocId = metadata.getEsDocId();
 
-        for(Long jobResultId : jobResultIds){
-            JobResult jobResult = jobResultRepository.findById(jobResultId)
-                    .orElseThrow(() -> new RuntimeException("JobResult not found for id : " + jobResultId));
-            String videoId = jobResult.getYtUpload();
-            BothUploadDto bothUploadDto = youtubeQueryService.findDetailForVideo(esDocId, videoId);
+        // JobResult 는 한 번의 IN 조회, 영상 정보는 한 번의 mget 으로 가져온다
+        Map<Long, JobResult> jobResults = new HashMap<>();
+        for (JobResult jobResult : jobResultRepository.findAllById(jobResultIds)) {
+            jobResults.put(jobResult.getId(), jobResult);
+        }
+        List<String> videoIds = jobResults.values().stream().map(JobResult::getYtUpload).toList();
+        for (Long jobResultId : jobResultIds) {
+            if (!jobResults.containsKey(jobResultId)) {
+                throw new RuntimeException("JobResult not found for id : " + jobResultId);
+            }
+        }
+
+        return youtubeQueryService.findDetailForVideosAsync(esDocId, videoIds)
+                .thenApply(videoDetails -> toBothUploadDtos(jobResultIds, jobResults, videoDetails));
+    }
+
+    private static List<BothUploadDto> toBothUploadDtos(List<Long> jobResultIds, Map<Long, JobResult> jobResults,
+                                                        Map<String, BothUploadDto> videoDetails) {
+        List<BothUploadDto> bothUploadDtos = new ArrayList<>();
+        for (Long jobResultId : jobResultIds) {
+            JobResult jobResult = jobResults.get(jobResultId);
+            BothUploadDto detail = videoDetails.get(jobResult.getYtUpload());
+            BothUploadDto bothUploadDto = BothUploadDto.builder()
+                    .title(detail.getTitle())
+                    .uploadedAt(detail.getUploadedAt())
+                    .build();
             bothUploadDto.setResultId(jobResultId);
             bothUploadDto.setYoutube(jobResult.getYtUpload());
             bothUploadDto.setReddit(jobResult.getRdUpload());
@@ -85,26 +113,45 @@ public class JobResultService {
         }
         return bothUploadDtos;
     }
-    public BothResultDto getBothDatasFromResultId(String userName, Long resultId) throws IOException {
-
-
+    /** 상세 2건 + 댓글 분석 2건을 queryExecutor 에서 동시에 실행 */
+    public CompletableFuture<BothResultDto> getBothDatasFromResultId(String userName, Long resultId) {
         JobResult metadata = jobResultRepository.findById(resultId)
                 .orElseThrow(() -> new RuntimeException("JobResult metadata not found for user: " + userName));
 
         String postId = metadata.getRdUpload();
         String videoId = metadata.getYtUpload();
 
-        RedditContentDetailDto redditDetail = contentsService.getContentDetailByPostId(postId, userName);
-        YoutubeContentDetailDto youtubeDetail = contentsService.getContentDetailByVideoId(videoId, userName);
-        JsonNode aiRDResponse = contentsService.analyzeRDComments(postId, userName);
-        JsonNode aiYTResponse = contentsService.analyzeComments(videoId, userName);
+        CompletableFuture<RedditContentDetailDto> redditDetail =
+                supplyQuery(() -> contentsService.getContentDetailByPostId(postId, userName));
+        CompletableFuture<YoutubeContentDetailDto> youtubeDetail =
+                supplyQuery(() -> contentsService.getContentDetailByVideoId(videoId, userName));
+        CompletableFuture<JsonNode> aiRDResponse =
+                supplyQuery(() -> contentsService.analyzeRDComments(postId, userName));
+        CompletableFuture<JsonNode> aiYTResponse =
+                supplyQuery(() -> contentsService.analyzeComments(videoId, userName));
+
+        return CompletableFuture.allOf(redditDetail, youtubeDetail, aiRDResponse, aiYTResponse)
+                .thenApply(done -> BothResultDto.builder()
+                        .redditDetail(redditDetail.join())
+                        .youtubeDatil(youtubeDetail.join())
+                        .redditComments(aiRDResponse.join())
+                        .youtubeComments(aiYTResponse.join())
+                        .build());
+    }
+
+    @FunctionalInterface
+    private interface IoSupplier<T> {
+        T get() throws IOException;
+    }
 
-        return BothResultDto.builder()
-                .redditDetail(redditDetail)
-                .youtubeDatil(youtubeDetail)
-                .redditComments(aiRDResponse)
-                .youtubeComments(aiYTResponse)
-                .build();
+    private <T> CompletableFuture<T> supplyQuery(IoSupplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, queryExecutor);
     }
 
 }
@@ -3,20 +3,26 @@ package org.example.ssj3pj.services.youtube;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.ssj3pj.dto.youtube.*;
 import org.example.ssj3pj.entity.User.Users;
 import org.example.ssj3pj.entity.YoutubeMetadata;
 import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.EsSourceReader;
+import org.example.ssj3pj.services.ES.SourceProjection;
 import org.example.ssj3pj.services.ES.YoutubeQueryService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,6 +38,13 @@ public class YouTubeChannelService {
     private final ElasticsearchClient elasticsearchClient;
     private final YoutubeQueryService youtubeQueryService;
     private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final EsSourceReader esSourceReader;
+    private final Cache<String, String> videoDocIdCache;
+
+    private static final SourceProjection VIDEO_DETAIL = SourceProjection.of(
+            "title", "upload_date",
+            "view_count", "like_count", "comment_count",
+            "thumbnails", "thumbnail_url", "@timestamp");
 
     @Value("${app.es.indices.youtube:youtubedata}")
     private String youtubeIndex;
@@ -77,98 +90,68 @@ public class YouTubeChannelService {
     /**
      * 비디오 ID로 단일 영상 상세 정보 조회 (ES 기반, 최신 스냅샷 1건)
      */
-    public VideoDetailDto getVideoDetail(Users user, String videoId) {
-        try {
-            log.info("단일 영상 상세 정보 조회 시작 (ES 기반): videoId={}", videoId);
-
-            SearchResponse<Map> response = null;
-
-            // 1) 정확 매칭: video_id.keyword
-            try {
-                Query keywordQuery = Query.of(q -> q
-                        .term(t -> t.field("video_id.keyword").value(videoId))
-                );
-
-                SearchRequest keywordRequest = SearchRequest.of(s -> s
-                        .index(youtubeIndex)
-                        .query(keywordQuery)
-                        .size(1)
-                        .sort(st -> st.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
-                        .sort(st -> st.field(f -> f.field("upload_date").order(SortOrder.Desc)))
-                        .source(src -> src.filter(f -> f.includes(
-                                "title", "upload_date",
-                                "view_count", "like_count", "comment_count",
-                                "thumbnails", "thumbnail_url", "@timestamp"
-                        )))
-                );
-
-                response = elasticsearchClient.search(keywordRequest, Map.class);
-                log.info("keyword 필드 검색 결과: {} hits", response.hits().hits().size());
-            } catch (Exception e) {
-                log.warn("keyword 필드 검색 실패: {}", e.getMessage());
+    /**
+     * videoId 로 영상 문서 _source 조회
+     * - 캐시에 문서 ID가 있으면 GET 한 번
+     * - 없으면 video_id.keyword(term) → video_id(term) → video_id(match) 세 검색을 msearch 한 번에 보내고
+     *   우선순위대로 첫 번째로 결과가 있는 응답을 사용한 뒤 문서 ID를 캐시
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> findVideoSource(String videoId) throws IOException {
+        String cachedDocId = videoDocIdCache.getIfPresent(videoId);
+        if (cachedDocId != null) {
+            Map<String, Object> source = esSourceReader.get(youtubeIndex, cachedDocId, VIDEO_DETAIL, Map.class);
+            if (source != null) {
+                return source;
             }
+            videoDocIdCache.invalidate(videoId);
+        }
 
-            // 2) fallback: video_id (term)
-            if (response == null || response.hits().hits().isEmpty()) {
-                try {
-                    Query termQuery = Query.of(q -> q
-                            .term(t -> t.field("video_id").value(videoId))
-                    );
-
-                    SearchRequest termRequest = SearchRequest.of(s -> s
-                            .index(youtubeIndex)
-                            .query(termQuery)
+        List<Query> candidates = List.of(
+                Query.of(q -> q.term(t -> t.field("video_id.keyword").value(videoId))),
+                Query.of(q -> q.term(t -> t.field("video_id").value(videoId))),
+                Query.of(q -> q.match(m -> m.field("video_id").query(videoId)))
+        );
+
+        MsearchRequest.Builder request = new MsearchRequest.Builder().index(youtubeIndex);
+        for (Query query : candidates) {
+            request.searches(s -> s
+                    .header(h -> h)
+                    .body(b -> b
+                            .query(query)
                             .size(1)
                             .sort(st -> st.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
                             .sort(st -> st.field(f -> f.field("upload_date").order(SortOrder.Desc)))
-                            .source(src -> src.filter(f -> f.includes(
-                                    "title", "upload_date",
-                                    "view_count", "like_count", "comment_count",
-                                    "thumbnails", "thumbnail_url", "@timestamp"
-                            )))
-                    );
+                            .source(VIDEO_DETAIL.toSourceConfig())));
+        }
 
-                    response = elasticsearchClient.search(termRequest, Map.class);
-                    log.info("일반 필드 검색 결과: {} hits", response.hits().hits().size());
-                } catch (Exception e) {
-                    log.warn("일반 필드 검색 실패: {}", e.getMessage());
-                }
+        MsearchResponse<Map> response = elasticsearchClient.msearch(request.build(), Map.class);
+        List<MultiSearchResponseItem<Map>> items = response.responses();
+        for (int i = 0; i < items.size(); i++) {
+            MultiSearchResponseItem<Map> item = items.get(i);
+            if (item.isFailure()) {
+                log.warn("영상 검색 실패 (우선순위 {}): {}", i + 1, item.failure().error().reason());
+                continue;
             }
-
-            // 3) fallback: match(video_id)
-            if (response == null || response.hits().hits().isEmpty()) {
-                try {
-                    Query matchQuery = Query.of(q -> q
-                            .match(m -> m.field("video_id").query(videoId))
-                    );
-
-                    SearchRequest matchRequest = SearchRequest.of(s -> s
-                            .index(youtubeIndex)
-                            .query(matchQuery)
-                            .size(1)
-                            .sort(st -> st.field(f -> f.field("@timestamp").order(SortOrder.Desc)))
-                            .sort(st -> st.field(f -> f.field("upload_date").order(SortOrder.Desc)))
-                            .source(src -> src.filter(f -> f.includes(
-                                    "title", "upload_date",
-                                    "view_count", "like_count", "comment_count",
-                                    "thumbnails", "thumbnail_url", "@timestamp"
-                            )))
-                    );
-
-                    response = elasticsearchClient.search(matchRequest, Map.class);
-                    log.info("match 쿼리 검색 결과: {} hits", response.hits().hits().size());
-                } catch (Exception e) {
-                    log.warn("match 쿼리 검색 실패: {}", e.getMessage());
-                }
+            List<Hit<Map>> hits = item.result().hits().hits();
+            if (!hits.isEmpty() && hits.get(0).source() != null) {
+                log.info("영상 검색 결과: 우선순위 {} 쿼리에서 발견", i + 1);
+                videoDocIdCache.put(videoId, hits.get(0).id());
+                return hits.get(0).source();
             }
+        }
+        return null;
+    }
 
-            if (response == null || response.hits().hits().isEmpty()) {
+    public VideoDetailDto getVideoDetail(Users user, String videoId) {
+        try {
+            log.info("단일 영상 상세 정보 조회 시작 (ES 기반): videoId={}", videoId);
+
+            Map<String, Object> source = findVideoSource(videoId);
+            if (source == null) {
                 throw new RuntimeException("해당 비디오를 찾을 수 없습니다: " + videoId);
             }
 
-            Map<String, Object> source = response.hits().hits().get(0).source();
-            if (source == null) throw new RuntimeException("ES 검색 결과에 _source 데이터가 없습니다.");
-
             // 상세는 hqdefault 정책
             String thumbnailUrl = extractHqThumbnailUrl(videoId, source);
 
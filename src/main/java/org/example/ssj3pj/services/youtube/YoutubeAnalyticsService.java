@@ -13,12 +13,10 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -36,6 +34,7 @@ public class YoutubeAnalyticsService {
     private final YoutubeQueryService youtubeQueryService;
     private final YoutubeMetadataRepository youtubeMetadataRepository;
     private final ObjectMapper objectMapper;
+    private final YoutubeBreakdownService youtubeBreakdownService;
 
     /** 단일 비디오의 트래픽 소스 조회 (카테고리별 그룹핑) */
     public List<TrafficSourceCategoryDto> trafficSourceByVideoId(Users user, String videoId) {
@@ -89,19 +88,17 @@ public class YoutubeAnalyticsService {
             Map<String, Long> totalTrafficViews = new HashMap<>();
             List<TrafficSourceDto> lastAvailableTraffic = new ArrayList<>();
 
-            // 1. 기간 내 모든 날짜 반복
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                // 2. 각 날짜별 최신 문서 조회
-                Optional<YoutubeMetadata> metadataOpt = youtubeMetadataRepository
-                        .findFirstByUserAndIndexedAtBetweenOrderByIndexedAtDesc(user, date.atStartOfDay(), date.atTime(23, 59, 59));
+            // 1. 일별 롤업 범위 읽기 한 번 (롤업이 없는 날짜만 ES 에서 보충)
+            Map<LocalDate, YoutubeBreakdownService.DayBreakdown> perDay =
+                    youtubeBreakdownService.findByPeriod(user, startDate, endDate);
 
+            // 2. 기간 내 모든 날짜를 한 번 순회 (메모리에서 합산)
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
                 List<TrafficSourceDto> dataToProcess;
 
-                if (metadataOpt.isPresent()) {
+                if (perDay.containsKey(date)) {
                     // 데이터가 있으면 사용하고, "마지막 데이터"로 저장
-                    YoutubeMetadata metadata = metadataOpt.get();
-                    log.info("날짜 {}에 대한 데이터 발견: esDocId={}", date, metadata.getEsDocId());
-                    dataToProcess = youtubeQueryService.findTrafficSourceSummary(metadata.getEsDocId());
+                    dataToProcess = perDay.get(date).trafficSources();
                     lastAvailableTraffic = dataToProcess;
                 } else {
                     // 데이터가 없으면 "마지막 데이터"를 재사용
@@ -109,7 +106,7 @@ public class YoutubeAnalyticsService {
                     dataToProcess = lastAvailableTraffic;
                 }
 
-                // 4. 해당 날짜의 데이터를 최종 합산
+                // 3. 해당 날짜의 데이터를 최종 합산
                 if (dataToProcess != null && !dataToProcess.isEmpty()) {
                     for (TrafficSourceDto traffic : dataToProcess) {
                         totalTrafficViews.merge(traffic.getInsightTrafficSourceType(), traffic.getViews(), Long::sum);
@@ -144,48 +141,21 @@ public class YoutubeAnalyticsService {
             log.info("일별 인구통계 조회 시작: user={}, 기간={} ~ {}", user.getUsername(), startDate, endDate);
             
             List<DailyDemographicsDto> result = new ArrayList<>();
-            LocalDate currentDate = startDate;
-            
-            // 각 날짜별로 반복 처리
-            while (!currentDate.isAfter(endDate)) {
-                log.info("날짜별 처리: {}", currentDate);
-                
-                // 해당 날짜의 시작/끝 시간 설정
-                LocalDateTime dayStart = currentDate.atStartOfDay();
-                LocalDateTime dayEnd = currentDate.atTime(23, 59, 59);
-                
-                // 해당 날짜에 수집된 최신 YoutubeMetadata 조회
-                log.debug("메타데이터 조회 시도: 날짜범위 {} ~ {}", dayStart, dayEnd);
-                Optional<YoutubeMetadata> metadata = youtubeMetadataRepository
-                        .findFirstByUserAndIndexedAtBetweenOrderByIndexedAtDesc(user, dayStart, dayEnd);
-                
-                if (metadata.isPresent()) {
-                    log.info("{}에 수집된 메타데이터 발견: esDocId={}, indexedAt={}", 
-                            currentDate, metadata.get().getEsDocId(), metadata.get().getIndexedAt());
-                    
-                    // ES 문서 존재 여부 사전 확인
-                    log.debug("ES 문서 조회 시도: esDocId={}", metadata.get().getEsDocId());
-                    
-                    // 해당 ES 문서에서 demographics 조회
-                    List<DemographicPoint> demographics = youtubeQueryService
-                            .getDemographicsFromES(metadata.get().getEsDocId());
-                    
-                    if (!demographics.isEmpty()) {
-                        result.add(DailyDemographicsDto.builder()
-                                .date(currentDate.toString())
-                                .demographics(demographics)
-                                .build());
-                        
-                        log.info("{}의 인구통계 데이터 추가: {} 개 항목", 
-                                currentDate, demographics.size());
-                    }
-                } else {
-                    log.warn("{}에 해당하는 메타데이터가 없음", currentDate);
+
+            // 일별 롤업 범위 읽기 한 번 (날짜 오름차순, 스냅샷이 없는 날짜는 빠짐)
+            Map<LocalDate, YoutubeBreakdownService.DayBreakdown> perDay =
+                    youtubeBreakdownService.findByPeriod(user, startDate, endDate);
+
+            perDay.forEach((date, breakdown) -> {
+                List<DemographicPoint> demographics = breakdown.demographics();
+                if (!demographics.isEmpty()) {
+                    result.add(DailyDemographicsDto.builder()
+                            .date(date.toString())
+                            .demographics(demographics)
+                            .build());
                 }
-                
-                currentDate = currentDate.plusDays(1);
-            }
-            
+            });
+
             log.info("일별 인구통계 조회 완료: {} 일간의 데이터", result.size());
             return result;
             
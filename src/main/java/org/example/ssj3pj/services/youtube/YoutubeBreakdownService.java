@@ -0,0 +1,156 @@
+package org.example.ssj3pj.services.youtube;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ssj3pj.dto.youtube.DemographicPoint;
+import org.example.ssj3pj.dto.youtube.TrafficSourceDto;
+import org.example.ssj3pj.entity.User.Users;
+import org.example.ssj3pj.entity.YoutubeDailyBreakdown;
+import org.example.ssj3pj.entity.YoutubeMetadata;
+import org.example.ssj3pj.repository.YoutubeDailyBreakdownRepository;
+import org.example.ssj3pj.repository.YoutubeMetadataRepository;
+import org.example.ssj3pj.services.ES.YoutubeQueryService;
+import org.example.ssj3pj.services.RangeFetchService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 유튜브 트래픽 소스/인구통계 일별 롤업(youtube_daily_breakdown) 관리
+ * - 수집 시점: 스냅샷에서 두 항목만 한 번 뽑아 (사용자, 날짜) 행으로 upsert
+ * - 조회 시점: 기간 범위 읽기 한 번 → 날짜별 breakdown
+ *   롤업보다 새 스냅샷이 있는 날짜(롤업 도입 전 데이터, 수집 중 실패)만 ES 에서 뽑아 응답 (조회 경로에서는 쓰지 않음)
+ * - 누락분 복구: 기동 시 DashboardDailyStatsBackfillConfig 가 backfill() 로 upsert
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class YoutubeBreakdownService {
+
+    private final YoutubeDailyBreakdownRepository youtubeDailyBreakdownRepository;
+    private final YoutubeMetadataRepository youtubeMetadataRepository;
+    private final YoutubeQueryService youtubeQueryService;
+    private final RangeFetchService rangeFetchService;
+    private final ObjectMapper objectMapper;
+
+    /** 하루치 트래픽 소스/인구통계 */
+    public record DayBreakdown(List<TrafficSourceDto> trafficSources, List<DemographicPoint> demographics) {
+    }
+
+    /* ========================= 수집 시점 ========================= */
+
+    public DayBreakdown extract(YoutubeMetadata metadata) throws IOException {
+        DayBreakdown breakdown = read(metadata);
+        youtubeDailyBreakdownRepository.upsert(metadata.getUser().getId(), metadata.getIndexedAt().toLocalDate(),
+                metadata.getEsDocId(), metadata.getIndexedAt(),
+                writeTraffic(breakdown.trafficSources()), writeDemographics(breakdown.demographics()));
+        return breakdown;
+    }
+
+    /**
+     * 기동 백필용 - 그날의 최신 스냅샷이고 롤업이 그보다 오래된 경우에만 ES 에서 뽑아 upsert
+     * @return 롤업을 갱신했으면 true
+     */
+    public boolean backfill(YoutubeMetadata metadata) throws IOException {
+        LocalDateTime snapshotAt = metadata.getIndexedAt();
+        if (youtubeMetadataRepository.existsByUserAndIndexedAtGreaterThanAndIndexedAtLessThan(
+                metadata.getUser(), snapshotAt, snapshotAt.toLocalDate().plusDays(1).atStartOfDay())) {
+            return false;
+        }
+        if (youtubeDailyBreakdownRepository.existsByUser_IdAndDayAndSnapshotAtGreaterThanEqual(
+                metadata.getUser().getId(), snapshotAt.toLocalDate(), snapshotAt)) {
+            return false;
+        }
+        extract(metadata);
+        return true;
+    }
+
+    private DayBreakdown read(YoutubeMetadata metadata) throws IOException {
+        return new DayBreakdown(
+                youtubeQueryService.findTrafficSourceSummary(metadata.getEsDocId()),
+                youtubeQueryService.getDemographicsFromES(metadata.getEsDocId()));
+    }
+
+    /* ========================= 기간 조회 ========================= */
+
+    /** [startDate, endDate] 날짜별 breakdown (날짜 오름차순, 스냅샷이 없는 날짜는 빠짐) */
+    public Map<LocalDate, DayBreakdown> findByPeriod(Users user, LocalDate startDate, LocalDate endDate) throws IOException {
+        Map<LocalDate, DayBreakdown> perDay = new TreeMap<>();
+        Map<LocalDate, YoutubeDailyBreakdown> rows = new TreeMap<>();
+        for (YoutubeDailyBreakdown row : youtubeDailyBreakdownRepository.findByUser_IdAndDayBetweenOrderByDayAsc(
+                user.getId(), startDate, endDate)) {
+            rows.put(row.getDay(), row);
+            perDay.put(row.getDay(), new DayBreakdown(readTraffic(row.getTrafficSources()), readDemographics(row.getDemographics())));
+        }
+
+        // 롤업에 없거나 롤업보다 새 스냅샷이 있는 날짜만 ES 에서 뽑아 응답 (쓰기는 수집/백필 경로에서만)
+        Map<LocalDate, YoutubeMetadata> stale = new TreeMap<>();
+        for (YoutubeMetadata metadata : youtubeMetadataRepository.findLatestPerDay(
+                user.getId(), startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            LocalDate day = metadata.getIndexedAt().toLocalDate();
+            YoutubeDailyBreakdown row = rows.get(day);
+            if (row == null || row.getSnapshotAt().isBefore(metadata.getIndexedAt())) {
+                stale.put(day, metadata);
+            }
+        }
+        if (!stale.isEmpty()) {
+            log.info("breakdown 롤업 누락 - ES 에서 응답: user={}, {} 일", user.getUsername(), stale.size());
+            perDay.putAll(rangeFetchService.fetch("breakdown", stale.keySet(), day -> read(stale.get(day))));
+        }
+        return perDay;
+    }
+
+    /* ===== 직렬화 (TEXT 컬럼, 필요한 값만) ===== */
+
+    private String writeTraffic(List<TrafficSourceDto> trafficSources) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (TrafficSourceDto traffic : trafficSources) {
+            node.put(traffic.getInsightTrafficSourceType(), traffic.getViews());
+        }
+        return node.toString();
+    }
+
+    private String writeDemographics(List<DemographicPoint> demographics) {
+        ArrayNode node = objectMapper.createArrayNode();
+        for (DemographicPoint point : demographics) {
+            node.addArray()
+                    .add(point.getAgeGroup())
+                    .add(point.getGender())
+                    .add(point.getViewerPercentage());
+        }
+        return node.toString();
+    }
+
+    private List<TrafficSourceDto> readTraffic(String json) throws IOException {
+        List<TrafficSourceDto> result = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : objectMapper.readTree(json).properties()) {
+            result.add(TrafficSourceDto.builder()
+                    .insightTrafficSourceType(entry.getKey())
+                    .views(entry.getValue().asLong())
+                    .build());
+        }
+        return result;
+    }
+
+    private List<DemographicPoint> readDemographics(String json) throws IOException {
+        List<DemographicPoint> result = new ArrayList<>();
+        for (JsonNode point : objectMapper.readTree(json)) {
+            result.add(DemographicPoint.builder()
+                    .ageGroup(point.path(0).asText())
+                    .gender(point.path(1).asText())
+                    .viewerPercentage(point.path(2).asDouble())
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.ssj3pj.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// 날짜별 값을 기간 전체 일별 목록으로 펼치는 도구 (대시보드 일별 그래프용)
+public final class DailySeries {
+
+    private DailySeries() {}
+
+    /**
+     * [startDay, endDay] 를 한 번 순회하며 채움
+     * - 값이 있는 날짜는 그대로, 빈 날짜는 직전 값을 그 날짜로 복사
+     * - 첫 값 이전의 빈 날짜는 첫 값으로, 기간 내 값이 전혀 없으면 empty 로 채움
+     */
+    public static <T> List<T> fill(LocalDate startDay,
+                                   LocalDate endDay,
+                                   Map<LocalDate, T> perDay,
+                                   BiFunction<T, LocalDate, T> copyAt,
+                                   Function<LocalDate, T> empty) {
+        List<T> daily = new ArrayList<>();
+        T last = null;
+        for (LocalDate day = startDay; !day.isAfter(endDay); day = day.plusDays(1)) {
+            T value = perDay.get(day);
+            if (value != null) {
+                if (last == null) {
+                    // 앞쪽 빈 날짜(아직 null)를 첫 값으로 채움
+                    for (int i = 0; i < daily.size(); i++) {
+                        daily.set(i, copyAt.apply(value, startDay.plusDays(i)));
+                    }
+                }
+                last = value;
+                daily.add(value);
+            } else {
+                daily.add(last == null ? null : copyAt.apply(last, day));
+            }
+        }
+        if (last == null) {
+            for (int i = 0; i < daily.size(); i++) {
+                daily.set(i, empty.apply(startDay.plusDays(i)));
+            }
+        }
+        return daily;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.ssj3pj.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailySeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 5);
+
+    @Test
+    void 빈_날짜는_이전_값으로_앞쪽은_첫_값으로_채운다() {
+        Map<LocalDate, String> perDay = Map.of(
+                LocalDate.of(2025, 1, 3), "a",
+                LocalDate.of(2025, 1, 4), "b");
+
+        List<String> daily = DailySeries.fill(START, END, perDay,
+                (value, day) -> value + "@" + day.getDayOfMonth(),
+                day -> "0@" + day.getDayOfMonth());
+
+        assertThat(daily).containsExactly("a@1", "a@2", "a", "b", "b@5");
+    }
+
+    @Test
+    void 값이_없으면_전부_empty() {
+        List<String> daily = DailySeries.fill(START, END, Map.<LocalDate, String>of(),
+                (value, day) -> value,
+                day -> "0@" + day.getDayOfMonth());
+
+        assertThat(daily).containsExactly("0@1", "0@2", "0@3", "0@4", "0@5");
+    }
+}